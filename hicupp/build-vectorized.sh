@@ -0,0 +1,7 @@
+#!/bin/bash
+# Compiles the application together with the Vector API kernels in
+# src-vector. Run the result with
+#   java --add-modules jdk.incubator.vector -Dhicupp.vectorize=true -p bin -m hicupp/...
+set -e
+javac -d bin --module-source-path hicupp=src:src-vector \
+  --add-modules jdk.incubator.vector --add-reads hicupp=jdk.incubator.vector -m hicupp
@@ -0,0 +1,108 @@
+package hicupp;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementations of the {@link ArrayMath} operations on the incubating
+ * Java Vector API. Only compiled by the vectorized build, and only loaded,
+ * reflectively, when {@link ArrayMath} is asked to use it, so that the rest
+ * of the code runs when the <code>jdk.incubator.vector</code> module is
+ * absent.
+ */
+final class VectorKernels implements ArrayMath.Kernels {
+  private static final VectorSpecies<Double> species = DoubleVector.SPECIES_PREFERRED;
+  private static final double gaussianScale = 1 / Math.sqrt(2 * Math.PI);
+  
+  VectorKernels() {
+  }
+  
+  public double dot(double[] a, int offset, double[] b, int length) {
+    final int upperBound = species.loopBound(length);
+    int i = 0;
+    DoubleVector sums = DoubleVector.zero(species);
+    for (; i < upperBound; i += species.length()) {
+      DoubleVector x = DoubleVector.fromArray(species, a, offset + i);
+      DoubleVector y = DoubleVector.fromArray(species, b, i);
+      sums = x.fma(y, sums);
+    }
+    double sum = sums.reduceLanes(VectorOperators.ADD);
+    for (; i < length; i++)
+      sum += a[offset + i] * b[i];
+    return sum;
+  }
+  
+  public void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length) {
+    final DoubleVector alphas = DoubleVector.broadcast(species, alpha);
+    final int upperBound = species.loopBound(length);
+    int i = 0;
+    for (; i < upperBound; i += species.length()) {
+      DoubleVector xs = DoubleVector.fromArray(species, x, xOffset + i);
+      DoubleVector ys = DoubleVector.fromArray(species, y, yOffset + i);
+      xs.fma(alphas, ys).intoArray(y, yOffset + i);
+    }
+    for (; i < length; i++)
+      y[yOffset + i] += alpha * x[xOffset + i];
+  }
+  
+  public void powerSums(double[] values, int from, int to, double[] sums) {
+    final int upperBound = from + species.loopBound(to - from);
+    int i = from;
+    DoubleVector sums1 = DoubleVector.zero(species);
+    DoubleVector sums2 = DoubleVector.zero(species);
+    DoubleVector sums3 = DoubleVector.zero(species);
+    DoubleVector sums4 = DoubleVector.zero(species);
+    for (; i < upperBound; i += species.length()) {
+      DoubleVector v = DoubleVector.fromArray(species, values, i);
+      DoubleVector v2 = v.mul(v);
+      DoubleVector v3 = v2.mul(v);
+      sums1 = sums1.add(v);
+      sums2 = sums2.add(v2);
+      sums3 = sums3.add(v3);
+      sums4 = v3.fma(v, sums4);
+    }
+    double sum1 = sums1.reduceLanes(VectorOperators.ADD);
+    double sum2 = sums2.reduceLanes(VectorOperators.ADD);
+    double sum3 = sums3.reduceLanes(VectorOperators.ADD);
+    double sum4 = sums4.reduceLanes(VectorOperators.ADD);
+    for (; i < to; i++) {
+      double v = values[i];
+      double v2 = v * v;
+      double v3 = v2 * v;
+      sum1 += v;
+      sum2 += v2;
+      sum3 += v3;
+      sum4 += v3 * v;
+    }
+    ArrayMath.storePowerSums(sum1, sum2, sum3, sum4, sums);
+  }
+  
+  public double sumOfGaussians(double[] values, int from, int to, double centre, double bandwidth) {
+    final int upperBound = from + species.loopBound(to - from);
+    int i = from;
+    DoubleVector sums = DoubleVector.zero(species);
+    for (; i < upperBound; i += species.length()) {
+      DoubleVector u = DoubleVector.fromArray(species, values, i).neg().add(centre).div(bandwidth);
+      sums = sums.add(u.mul(u).mul(-0.5).lanewise(VectorOperators.EXP));
+    }
+    double sum = sums.reduceLanes(VectorOperators.ADD) * gaussianScale;
+    for (; i < to; i++)
+      sum += ProjectionIndexFunction.kernel((centre - values[i]) / bandwidth);
+    return sum;
+  }
+  
+  public void convolveSymmetric(double[] counts, double[] stencil, int L, double[] out, int length) {
+    final double s0 = stencil[0];
+    final int upperBound = species.loopBound(length);
+    int i = 0;
+    for (; i < upperBound; i += species.length())
+      DoubleVector.fromArray(species, counts, i).mul(s0).intoArray(out, i);
+    for (; i < length; i++)
+      out[i] = counts[i] * s0;
+    for (int l = 1; l <= L; l++) {
+      axpy(stencil[l], counts, 0, out, l, length - l);
+      axpy(stencil[l], counts, l, out, 0, length - l);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package hicupp;
+
+import java.util.Optional;
+
+/**
+ * The inner loops of projection and density estimation, on plain arrays.
+ * <p>Each operation has a scalar implementation, and can have one on the
+ * incubating Java Vector API. The vector implementations live in the
+ * separate <code>src-vector</code> source tree, which only the vectorized
+ * build (<code>build-vectorized.sh</code>) compiles, so that the default
+ * build neither needs nor warns about the incubator module. They are used
+ * when they were compiled in, the system property
+ * <code>hicupp.vectorize</code> is <code>true</code> and the
+ * <code>jdk.incubator.vector</code> module is present, e.g. when running
+ * with <code>--add-modules jdk.incubator.vector -Dhicupp.vectorize=true</code>.
+ * They add up terms in a different order, so their results can differ
+ * from the scalar ones in the last few bits.</p>
+ */
+final class ArrayMath {
+  /**
+   * The operations that an alternative implementation provides; see
+   * {@link ArrayMath} for their specifications.
+   */
+  interface Kernels {
+    double dot(double[] a, int offset, double[] b, int length);
+    void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length);
+    void powerSums(double[] values, int from, int to, double[] sums);
+    double sumOfGaussians(double[] values, int from, int to, double centre, double bandwidth);
+    void convolveSymmetric(double[] counts, double[] stencil, int L, double[] out, int length);
+  }
+  
+  /**
+   * The vector implementations, or <code>null</code> if they are not in use.
+   */
+  private static final Kernels vector = loadVectorKernels();
+  static final boolean enabled = vector != null;
+  
+  private ArrayMath() {
+  }
+  
+  private static Kernels loadVectorKernels() {
+    if (!Boolean.getBoolean("hicupp.vectorize"))
+      return null;
+    Optional<Module> vectorModule = ModuleLayer.boot().findModule("jdk.incubator.vector");
+    if (vectorModule.isEmpty())
+      return null;
+    ArrayMath.class.getModule().addReads(vectorModule.get());
+    try {
+      return (Kernels) Class.forName("hicupp.VectorKernels").getDeclaredConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+  
+  /**
+   * Returns the dot product of <code>b[0..length)</code> with
+   * <code>a[offset..offset+length)</code>.
+   */
+  static double dot(double[] a, int offset, double[] b, int length) {
+    if (enabled)
+      return vector.dot(a, offset, b, length);
+    double sum = 0.0;
+    for (int i = 0; i < length; i++)
+      sum += a[offset + i] * b[i];
+    return sum;
+  }
+  
+  /**
+   * Adds <code>alpha</code> times <code>x[xOffset..xOffset+length)</code> to
+   * <code>y[yOffset..yOffset+length)</code>.
+   */
+  static void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length) {
+    if (enabled) {
+      vector.axpy(alpha, x, xOffset, y, yOffset, length);
+      return;
+    }
+    for (int i = 0; i < length; i++)
+      y[yOffset + i] += alpha * x[xOffset + i];
+  }
+  
+  /**
+   * Stores the sum of the <code>p</code>th powers of
+   * <code>values[from..to)</code> in <code>sums[p - 1]</code>, for each
+   * <code>p</code> from 1 to 4.
+   */
+  static void powerSums(double[] values, int from, int to, double[] sums) {
+    if (enabled) {
+      vector.powerSums(values, from, to, sums);
+      return;
+    }
+    double sum1 = 0.0;
+    double sum2 = 0.0;
+    double sum3 = 0.0;
+    double sum4 = 0.0;
+    for (int i = from; i < to; i++) {
+      double v = values[i];
+      double v2 = v * v;
+      double v3 = v2 * v;
+      sum1 += v;
+      sum2 += v2;
+      sum3 += v3;
+      sum4 += v3 * v;
+    }
+    storePowerSums(sum1, sum2, sum3, sum4, sums);
+  }
+  
+  static void storePowerSums(double sum1, double sum2, double sum3, double sum4, double[] sums) {
+    sums[0] = sum1;
+    sums[1] = sum2;
+    sums[2] = sum3;
+    sums[3] = sum4;
+  }
+  
+  /**
+   * Returns the sum of the standard normal kernel at
+   * <code>(centre - values[i]) / bandwidth</code> over <code>i</code> in
+   * <code>[from, to)</code>.
+   */
+  static double sumOfGaussians(double[] values, int from, int to, double centre, double bandwidth) {
+    if (enabled)
+      return vector.sumOfGaussians(values, from, to, centre, bandwidth);
+    double sum = 0.0;
+    for (int i = from; i < to; i++)
+      sum += ProjectionIndexFunction.kernel((centre - values[i]) / bandwidth);
+    return sum;
+  }
+  
+  /**
+   * Stores in <code>out[j]</code> the sum over <code>|l| &lt;= L</code> of
+   * <code>counts[j + l] * stencil[|l|]</code>, for each <code>j</code> in
+   * <code>[0, length)</code>, leaving out terms beyond either end.
+   */
+  static void convolveSymmetric(double[] counts, double[] stencil, int L, double[] out, int length) {
+    if (enabled) {
+      vector.convolveSymmetric(counts, stencil, L, out, length);
+      return;
+    }
+    for (int j = 0; j < length; j++) {
+      int lmin = Math.max(-L, -j);
+      int lmax = Math.min(L, length - 1 - j);
+      double sum = 0.0;
+      for (int l = lmin; l <= lmax; l++)
+        sum += counts[j + l] * stencil[l < 0 ? -l : l];
+      out[j] = sum;
+    }
+  }
+}
@@ -1,41 +1,51 @@
-package hicupp;
-
-public class ArraySetOfPoints implements SetOfPoints {
-  private final int dimensionCount;
-  private final int pointCount;
-  private final double[] matrix;
-  
-  public ArraySetOfPoints(int dimensionCount, double[] matrix) {
-    this.dimensionCount = dimensionCount;
-    pointCount = matrix.length / dimensionCount;
-    this.matrix = matrix;
-  }
-  
-  public int getDimensionCount() {
-    return dimensionCount;
-  }
-  
-  public int getPointCount() {
-    return pointCount;
-  }
-  
-  public PointIterator createIterator() {
-    return new MatrixPointIterator();
-  }
-  
-  private class MatrixPointIterator implements PointIterator {
-    private int i = -dimensionCount;
-    
-    public boolean hasNext() {
-      return (i + dimensionCount) < matrix.length;
-    }
-    
-    public void next() {
-      i += dimensionCount;
-    }
-    
-    public double getCoordinate(int index) {
-      return matrix[i + index];
-    }
-  }
-}
+package hicupp;
+
+public class ArraySetOfPoints implements SetOfPoints {
+  private final int dimensionCount;
+  private final int pointCount;
+  private final double[] matrix;
+  
+  public ArraySetOfPoints(int dimensionCount, double[] matrix) {
+    this.dimensionCount = dimensionCount;
+    pointCount = matrix.length / dimensionCount;
+    this.matrix = matrix;
+  }
+  
+  public int getDimensionCount() {
+    return dimensionCount;
+  }
+  
+  public int getPointCount() {
+    return pointCount;
+  }
+  
+  public void projectOnto(double[] axis, int from, int to, double[] out, int offset) {
+    for (int k = from, i = from * dimensionCount; k < to; k++, i += dimensionCount)
+      out[offset + k - from] = ArrayMath.dot(matrix, i, axis, dimensionCount);
+  }
+  
+  public void projectOnto(double[] axis, int[] indices, int from, int to, double[] out, int offset) {
+    for (int k = from; k < to; k++)
+      out[offset + k - from] = ArrayMath.dot(matrix, indices[k] * dimensionCount, axis, dimensionCount);
+  }
+  
+  public PointIterator createIterator() {
+    return new MatrixPointIterator();
+  }
+  
+  private class MatrixPointIterator implements PointIterator {
+    private int i = -dimensionCount;
+    
+    public boolean hasNext() {
+      return (i + dimensionCount) < matrix.length;
+    }
+    
+    public void next() {
+      i += dimensionCount;
+    }
+    
+    public double getCoordinate(int index) {
+      return matrix[i + index];
+    }
+  }
+}
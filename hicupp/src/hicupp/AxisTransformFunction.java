@@ -0,0 +1,208 @@
+package hicupp;
+
+import Jama.Matrix;
+
+import java.util.Arrays;
+
+/**
+ * Searches for a projection axis in a linear image of the space of the
+ * points. The arguments are the leading coordinates of a unit axis
+ * <code>b</code> in a space of <code>k</code> dimensions, as in
+ * {@link ProjectionIndexFunction}; the wrapped function is evaluated at the
+ * axis <code>Tb</code>, scaled to unit length, for a <code>d</code> by
+ * <code>k</code> matrix <code>T</code>.
+ * <p>Since a projection index depends only on the direction of the axis and
+ * not on its sign, this is the index of the points transformed by the
+ * transpose of <code>T</code>, searched along <code>b</code>. With the
+ * transform from {@link MatrixTools#computeSpheringTransform(Matrix)}, the
+ * search sees sphered points, for which the index is better conditioned;
+ * with a few principal axes, it sees the points' principal subspace.</p>
+ */
+public class AxisTransformFunction implements DifferentiableFunction, ConvergenceListener {
+  private final Function function;
+  private final double[][] transform;
+  private final int ndims;
+  private final int subspaceDimensionCount;
+
+  /**
+   * @param function A function whose arguments are the leading coordinates
+   *                 of a unit axis of <code>transform.getRowDimension()</code>
+   *                 coordinates.
+   */
+  public AxisTransformFunction(Function function, Matrix transform) {
+    this.function = function;
+    this.transform = transform.getArrayCopy();
+    ndims = transform.getRowDimension();
+    subspaceDimensionCount = transform.getColumnDimension();
+    if (function.getArgumentCount() != ndims - 1)
+      throw new IllegalArgumentException("The function takes " + function.getArgumentCount() +
+                                         " arguments; expected " + (ndims - 1) + ".");
+  }
+
+  public int getArgumentCount() {
+    return subspaceDimensionCount - 1;
+  }
+
+  /**
+   * Returns the unit axis <code>b</code> for <code>arguments</code>, or
+   * <code>null</code> if they lie outside the unit ball.
+   */
+  private double[] computeSubspaceAxis(double[] arguments) {
+    double sumOfSquares = 0.0;
+    for (int i = 0; i < arguments.length; i++)
+      sumOfSquares += arguments[i] * arguments[i];
+    if (sumOfSquares > 1.0)
+      return null;
+    double[] b = new double[subspaceDimensionCount];
+    System.arraycopy(arguments, 0, b, 0, arguments.length);
+    b[arguments.length] = Math.sqrt(1.0 - sumOfSquares);
+    return b;
+  }
+
+  /**
+   * Returns <code>Tb</code>, unscaled.
+   */
+  private double[] transformAxis(double[] b) {
+    double[] c = new double[ndims];
+    for (int j = 0; j < ndims; j++) {
+      double sum = 0.0;
+      double[] row = transform[j];
+      for (int k = 0; k < subspaceDimensionCount; k++)
+        sum += row[k] * b[k];
+      c[j] = sum;
+    }
+    return c;
+  }
+
+  private static double norm(double[] c) {
+    double sumOfSquares = 0.0;
+    for (int j = 0; j < c.length; j++)
+      sumOfSquares += c[j] * c[j];
+    return Math.sqrt(sumOfSquares);
+  }
+
+  /**
+   * Returns the unit axis in the space of the points for
+   * <code>arguments</code>, with the sign that makes its last coordinate
+   * non-negative, or <code>null</code> if the arguments lie outside the unit
+   * ball or are mapped to 0.
+   */
+  public double[] computeAxis(double[] arguments) {
+    double[] b = computeSubspaceAxis(arguments);
+    if (b == null)
+      return null;
+    double[] axis = transformAxis(b);
+    double length = norm(axis);
+    if (length == 0.0)
+      return null;
+    if (axis[ndims - 1] < 0.0)
+      length = -length;
+    for (int j = 0; j < ndims; j++)
+      axis[j] /= length;
+    return axis;
+  }
+
+  /**
+   * Returns the arguments of the wrapped function for
+   * <code>arguments</code>: the leading coordinates of
+   * {@link #computeAxis(double[])}.
+   */
+  public double[] computeFunctionArguments(double[] arguments) {
+    double[] axis = computeAxis(arguments);
+    if (axis == null)
+      return null;
+    double[] functionArguments = new double[ndims - 1];
+    System.arraycopy(axis, 0, functionArguments, 0, ndims - 1);
+    return functionArguments;
+  }
+
+  public double evaluate(double[] arguments) {
+    double[] functionArguments = computeFunctionArguments(arguments);
+    if (functionArguments == null)
+      return -3.4e38;
+    return function.evaluate(functionArguments);
+  }
+
+  public void evaluate(double[][] arguments, double[] values) {
+    double[][] functionArguments = new double[arguments.length][];
+    int[] indices = new int[arguments.length];
+    int count = 0;
+    for (int k = 0; k < arguments.length; k++) {
+      double[] mapped = computeFunctionArguments(arguments[k]);
+      if (mapped == null)
+        values[k] = -3.4e38;
+      else {
+        functionArguments[count] = mapped;
+        indices[count++] = k;
+      }
+    }
+    if (count < arguments.length) {
+      double[][] valid = new double[count][];
+      System.arraycopy(functionArguments, 0, valid, 0, count);
+      functionArguments = valid;
+    }
+    double[] functionValues = new double[count];
+    function.evaluate(functionArguments, functionValues);
+    for (int l = 0; l < count; l++)
+      values[indices[l]] = functionValues[l];
+  }
+
+  public boolean isDifferentiable() {
+    return function instanceof DifferentiableFunction &&
+           ((DifferentiableFunction) function).isDifferentiable();
+  }
+
+  /**
+   * Applies the chain rule to the wrapped function's gradient. That gradient
+   * is first extended to the gradient, with respect to the whole axis, of
+   * the index as a function of the direction of the axis; it is then taken
+   * through <code>T</code> to <code>b</code>, and from <code>b</code> to the
+   * arguments, accounting for the last coordinate of <code>b</code>
+   * depending on the others.
+   */
+  public double evaluateWithGradient(double[] arguments, double[] gradient) {
+    double[] b = computeSubspaceAxis(arguments);
+    double[] c = b == null ? null : transformAxis(b);
+    double length = c == null ? 0.0 : norm(c);
+    if (length == 0.0) {
+      Arrays.fill(gradient, 0.0);
+      return -3.4e38;
+    }
+    double sign = c[ndims - 1] < 0.0 ? -1.0 : 1.0;
+    double[] axis = new double[ndims];
+    for (int j = 0; j < ndims; j++)
+      axis[j] = sign * c[j] / length;
+
+    double[] functionArguments = new double[ndims - 1];
+    System.arraycopy(axis, 0, functionArguments, 0, ndims - 1);
+    double[] functionGradient = new double[ndims - 1];
+    double value = ((DifferentiableFunction) function).evaluateWithGradient(functionArguments,
+                                                                            functionGradient);
+
+    // The gradient with respect to the axis of the index as a function of
+    // the direction alone is orthogonal to the axis.
+    double dot = 0.0;
+    for (int j = 0; j < ndims - 1; j++)
+      dot += axis[j] * functionGradient[j];
+    double[] axisGradient = new double[ndims];
+    for (int j = 0; j < ndims - 1; j++)
+      axisGradient[j] = (functionGradient[j] - axis[j] * dot) * sign / length;
+    axisGradient[ndims - 1] = -axis[ndims - 1] * dot * sign / length;
+
+    double[] subspaceGradient = new double[subspaceDimensionCount];
+    for (int j = 0; j < ndims; j++)
+      for (int k = 0; k < subspaceDimensionCount; k++)
+        subspaceGradient[k] += transform[j][k] * axisGradient[j];
+
+    double last = b[subspaceDimensionCount - 1];
+    for (int k = 0; k < arguments.length; k++)
+      gradient[k] = subspaceGradient[k] -
+                    (last > 0.0 ? arguments[k] / last * subspaceGradient[arguments.length] : 0.0);
+    return value;
+  }
+
+  public boolean convergenceChanged(double convergence) {
+    return function instanceof ConvergenceListener &&
+           ((ConvergenceListener) function).convergenceChanged(convergence);
+  }
+}
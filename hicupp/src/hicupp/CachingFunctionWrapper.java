@@ -0,0 +1,216 @@
+package hicupp;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the values of a projection index function for the most recently
+ * evaluated axes, so that evaluating the same axis again costs a lookup
+ * instead of a pass over the points.
+ * <p>The arguments are taken to be the leading coordinates of a unit axis,
+ * as in {@link ProjectionIndexFunction}. The key for an argument list is the
+ * full axis with each coordinate rounded to a multiple of a resolution, so
+ * that axes that differ only by rounding share an entry. The sign of the
+ * axis needs no canonicalization: the arguments always denote the axis
+ * whose last coordinate is non-negative.</p>
+ */
+public class CachingFunctionWrapper implements DifferentiableFunction, ConvergenceListener {
+  public static final int defaultCapacity = 4096;
+  public static final double defaultResolution = 1e-9;
+  
+  private final Function function;
+  private final double resolution;
+  private final Map<Key, Double> cache;
+  private long lookupCount;
+  private long hitCount;
+  
+  public CachingFunctionWrapper(Function function) {
+    this(function, defaultCapacity, defaultResolution);
+  }
+  
+  /**
+   * @param capacity The number of values kept; the least recently used
+   *                 value is dropped when a new one is added.
+   * @param resolution The coordinates of the axis are rounded to a
+   *                   multiple of this before the cache is consulted.
+   */
+  public CachingFunctionWrapper(Function function, final int capacity, double resolution) {
+    this.function = function;
+    this.resolution = resolution;
+    cache = new LinkedHashMap<>(16, 0.75f, true) {
+      protected boolean removeEldestEntry(Map.Entry<Key, Double> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+  
+  private static final class Key {
+    private final long[] coordinates;
+    private final int hashCode;
+    
+    Key(long[] coordinates) {
+      this.coordinates = coordinates;
+      hashCode = Arrays.hashCode(coordinates);
+    }
+    
+    public int hashCode() {
+      return hashCode;
+    }
+    
+    public boolean equals(Object o) {
+      return o instanceof Key && Arrays.equals(coordinates, ((Key) o).coordinates);
+    }
+  }
+  
+  /**
+   * Returns the key for <code>arguments</code>, or <code>null</code> if the
+   * arguments lie outside the unit ball and so do not denote an axis.
+   */
+  private Key getKey(double[] arguments) {
+    double sumOfSquares = 0.0;
+    for (int i = 0; i < arguments.length; i++)
+      sumOfSquares += arguments[i] * arguments[i];
+    if (sumOfSquares > 1.0)
+      return null;
+    
+    long[] coordinates = new long[arguments.length + 1];
+    for (int i = 0; i < arguments.length; i++)
+      coordinates[i] = Math.round(arguments[i] / resolution);
+    coordinates[arguments.length] = Math.round(Math.sqrt(1.0 - sumOfSquares) / resolution);
+    return new Key(coordinates);
+  }
+  
+  private synchronized Double lookUp(Key key) {
+    lookupCount++;
+    Double value = cache.get(key);
+    if (value != null)
+      hitCount++;
+    return value;
+  }
+  
+  private synchronized void store(Key key, double value) {
+    cache.put(key, value);
+  }
+  
+  public int getArgumentCount() {
+    return function.getArgumentCount();
+  }
+  
+  /**
+   * Passes the convergence measure on to the wrapped function, and forgets
+   * all values if the function's values change as a result.
+   */
+  public boolean convergenceChanged(double convergence) {
+    if (!(function instanceof ConvergenceListener) ||
+        !((ConvergenceListener) function).convergenceChanged(convergence))
+      return false;
+    synchronized (this) {
+      cache.clear();
+    }
+    return true;
+  }
+  
+  public double evaluate(double[] arguments) {
+    Key key = getKey(arguments);
+    if (key == null)
+      return function.evaluate(arguments);
+    Double value = lookUp(key);
+    if (value != null)
+      return value;
+    double result = function.evaluate(arguments);
+    store(key, result);
+    return result;
+  }
+  
+  /**
+   * Looks up each argument list, and passes those not found to the wrapped
+   * function as a single batch, in which argument lists with the same key
+   * appear only once.
+   */
+  public void evaluate(double[][] arguments, double[] values) {
+    Key[] keys = new Key[arguments.length];
+    // The position in the batch of each argument list not found, or -1.
+    int[] batchIndices = new int[arguments.length];
+    int[] batchSources = new int[arguments.length];
+    Map<Key, Integer> batchKeys = new HashMap<>();
+    int batchCount = 0;
+    for (int k = 0; k < arguments.length; k++) {
+      keys[k] = getKey(arguments[k]);
+      Double value = keys[k] == null ? null : lookUp(keys[k]);
+      if (value != null) {
+        values[k] = value;
+        batchIndices[k] = -1;
+        continue;
+      }
+      Integer batchIndex = keys[k] == null ? null : batchKeys.get(keys[k]);
+      if (batchIndex == null) {
+        batchIndex = batchCount++;
+        if (keys[k] != null)
+          batchKeys.put(keys[k], batchIndex);
+        batchSources[batchIndex] = k;
+      }
+      batchIndices[k] = batchIndex;
+    }
+    if (batchCount == 0)
+      return;
+    
+    double[][] batchArguments = new double[batchCount][];
+    double[] batchValues = new double[batchCount];
+    for (int i = 0; i < batchCount; i++)
+      batchArguments[i] = arguments[batchSources[i]];
+    function.evaluate(batchArguments, batchValues);
+    for (int i = 0; i < batchCount; i++) {
+      Key key = keys[batchSources[i]];
+      if (key != null)
+        store(key, batchValues[i]);
+    }
+    for (int k = 0; k < arguments.length; k++)
+      if (batchIndices[k] >= 0)
+        values[k] = batchValues[batchIndices[k]];
+  }
+  
+  public boolean isDifferentiable() {
+    return function instanceof DifferentiableFunction &&
+           ((DifferentiableFunction) function).isDifferentiable();
+  }
+  
+  /**
+   * Passed on to the wrapped function, since the gradient is not cached;
+   * the value is remembered for later evaluations.
+   */
+  public double evaluateWithGradient(double[] arguments, double[] gradient) {
+    double value = ((DifferentiableFunction) function).evaluateWithGradient(arguments, gradient);
+    Key key = getKey(arguments);
+    if (key != null)
+      store(key, value);
+    return value;
+  }
+  
+  public synchronized long getLookupCount() {
+    return lookupCount;
+  }
+  
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+  
+  /**
+   * Returns the fraction of lookups that found a value, or 0 if there
+   * were none.
+   */
+  public synchronized double getHitRate() {
+    return lookupCount == 0 ? 0.0 : (double) hitCount / lookupCount;
+  }
+  
+  /**
+   * Writes the hit rate to <code>monitor</code>, if it is not
+   * <code>null</code>.
+   */
+  public void reportStatistics(Monitor monitor) {
+    if (monitor != null)
+      monitor.writeLine("Evaluation cache: " + getHitCount() + " of " + getLookupCount() +
+                        " evaluations found (" + Math.round(getHitRate() * 1000) / 10.0 + "%).");
+  }
+}
@@ -1,8 +1,8 @@
-package hicupp;
-
-public class CancellationException extends Exception {
-  public CancellationException() {}
-  public CancellationException(String message) {
-    super(message);
-  }
-}
+package hicupp;
+
+public class CancellationException extends Exception {
+  public CancellationException() {}
+  public CancellationException(String message) {
+    super(message);
+  }
+}
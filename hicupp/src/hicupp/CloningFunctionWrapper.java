@@ -1,21 +1,42 @@
-package hicupp;
-
-/**
- * Transforms a function into a function that is guaranteed not to
- * modify its arguments.
- */
-public class CloningFunctionWrapper implements Function {
-  private Function function;
-  
-  public CloningFunctionWrapper(Function function) {
-    this.function = function;
-  }
-  
-  public int getArgumentCount() {
-    return function.getArgumentCount();
-  }
-  
-  public double evaluate(double[] arguments) {
-    return function.evaluate((double[]) arguments.clone());
-  }
-}
+package hicupp;
+
+/**
+ * Transforms a function into a function that is guaranteed not to
+ * modify its arguments.
+ */
+public class CloningFunctionWrapper implements DifferentiableFunction, ConvergenceListener {
+  private Function function;
+  
+  public CloningFunctionWrapper(Function function) {
+    this.function = function;
+  }
+  
+  public int getArgumentCount() {
+    return function.getArgumentCount();
+  }
+  
+  public double evaluate(double[] arguments) {
+    return function.evaluate((double[]) arguments.clone());
+  }
+  
+  public void evaluate(double[][] arguments, double[] values) {
+    double[][] clones = new double[arguments.length][];
+    for (int k = 0; k < arguments.length; k++)
+      clones[k] = arguments[k].clone();
+    function.evaluate(clones, values);
+  }
+  
+  public boolean isDifferentiable() {
+    return function instanceof DifferentiableFunction &&
+           ((DifferentiableFunction) function).isDifferentiable();
+  }
+  
+  public double evaluateWithGradient(double[] arguments, double[] gradient) {
+    return ((DifferentiableFunction) function).evaluateWithGradient(arguments.clone(), gradient);
+  }
+  
+  public boolean convergenceChanged(double convergence) {
+    return function instanceof ConvergenceListener &&
+           ((ConvergenceListener) function).convergenceChanged(convergence);
+  }
+}
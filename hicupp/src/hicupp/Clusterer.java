@@ -1,85 +1,191 @@
-package hicupp;
-
-import hicupp.algorithms.AlgorithmParameters;
-
-/**
- * Holds methods for detecting clusters in a set of points using
- * projection pursuit.
- */
-public class Clusterer {
-  /**
-   * Returns the coordinates for the best projection axis for clustering
-   * <code>points</code>.
-   * @param projectionIndex See class {@link ProjectionIndexFunction}.
-   * @param algorithmIndex See class {@link FunctionMaximizer}
-   * @param monitor If not <code>null</code>,
-   * this object is notified of milestones of the computation.
-   * Also, this object can cancel the computation.
-   * @exception CancellationException Thrown originally by the monitor object.
-   */
-  public static double[] findAxis(int projectionIndex,
-                                  int algorithmIndex,
-                                  SetOfPoints points,
-                                  Monitor monitor,
-                                  AlgorithmParameters parameters)
-      throws NoConvergenceException, CancellationException {
-    Function projectionIndexFunction = new ProjectionIndexFunction(projectionIndex,
-                                                                   points);
-    double[] arguments = FunctionMaximizer.maximize(projectionIndexFunction,
-                                                    algorithmIndex,
-                                                    monitor,
-                                                    parameters);
-    double[] axis = new double[points.getDimensionCount()];
-    double sumOfSquares = 0.0;
-    for (int j = 0; j < arguments.length; j++) {
-      double argument = arguments[j];
-      axis[j] = argument;
-      sumOfSquares += argument * argument;
-    }
-    axis[arguments.length] = sumOfSquares < 1.0 ? Math.sqrt(1.0 - sumOfSquares) : 0.0;
-    return axis;
-  }
-
-  public static double[] findAxis(int projectionIndex,
-                                  SetOfPoints points,
-                                  Monitor monitor)
-          throws CancellationException, NoConvergenceException {
-    return findAxis(projectionIndex,
-            FunctionMaximizer.SIMPLEX_ALGORITHM_INDEX,
-            points,
-            monitor,
-            null);
-  }
-
-  /**
-   * Returns the value that separates the two clusters in the given ordered list of points on a line.
-   */
-  public static double split(double[] list) {
-    
-    final double PFACT2 = 1.0e-4;
-    
-    double sum = 0.0;
-    for (int i = 0; i < list.length; i++)
-      sum += list[i];
-    
-    double cutoff = 0.0;
-    double max = -1.0;
-    double lsum = 0.0;
-    
-    for (int l = 0; l < list.length - 1; l++) {
-      lsum += list[l];
-      double test = (list[l] - list[l + 1]) / list[l];
-      if (Math.abs(test) >= PFACT2) {
-        int r = list.length - l - 1;
-        double rsum = sum - lsum;
-        double m = (lsum * lsum / (l + 1)) + (rsum * rsum / r);
-        if (m > max) {
-          max = m;
-          cutoff = list[l];
-        }
-      }
-    }
-    
-    return cutoff;
-  }
-}
+package hicupp;
+
+import hicupp.algorithms.AlgorithmParameters;
+
+import Jama.Matrix;
+
+/**
+ * Holds methods for detecting clusters in a set of points using
+ * projection pursuit.
+ */
+public class Clusterer {
+  /**
+   * Returns the coordinates for the best projection axis for clustering
+   * <code>points</code>.
+   * @param projectionIndex See class {@link ProjectionIndexFunction}.
+   * @param algorithmIndex See class {@link FunctionMaximizer}
+   * @param monitor If not <code>null</code>,
+   * this object is notified of milestones of the computation.
+   * Also, this object can cancel the computation.
+   * @exception CancellationException Thrown originally by the monitor object.
+   */
+  public static double[] findAxis(int projectionIndex,
+                                  int algorithmIndex,
+                                  SetOfPoints points,
+                                  Monitor monitor,
+                                  AlgorithmParameters parameters)
+      throws NoConvergenceException, CancellationException {
+    return findAxis(projectionIndex,
+                    algorithmIndex,
+                    points,
+                    monitor,
+                    parameters,
+                    SearchOptions.defaults);
+  }
+  
+  /**
+   * Returns the coordinates for the best projection axis for clustering
+   * <code>points</code>, computing the projection index as specified by
+   * <code>options</code>.
+   */
+  public static double[] findAxis(int projectionIndex,
+                                  int algorithmIndex,
+                                  SetOfPoints points,
+                                  Monitor monitor,
+                                  AlgorithmParameters parameters,
+                                  SearchOptions options)
+      throws NoConvergenceException, CancellationException {
+    if (options.cardinality() > 0 && options.cardinality() < points.getDimensionCount())
+      return SparseAxisFinder.findAxis(
+        points,
+        options.cardinality(),
+        subset -> createFunction(projectionIndex, subset, 1.0, options),
+        function -> FunctionMaximizer.maximize(function, algorithmIndex, monitor, parameters),
+        monitor);
+    
+    Function projectionIndexFunction;
+    MultiFidelityFunctionWrapper multiFidelity = null;
+    if (options.multiFidelity() &&
+        points.getPointCount() > MultiFidelityFunctionWrapper.defaultInitialSampleSize)
+      projectionIndexFunction = multiFidelity = new MultiFidelityFunctionWrapper(
+        points,
+        (sample, pointWeight) -> createFunction(projectionIndex, sample, pointWeight, options));
+    else
+      projectionIndexFunction = createFunction(projectionIndex, points, 1.0, options);
+    Function searchedFunction = projectionIndexFunction;
+    AxisTransformFunction transformed = null;
+    final int ndims = points.getDimensionCount();
+    if ((options.sphering() || options.varianceExplained() < 1.0) && ndims > 1) {
+      // Search among the sphered points, or in the principal subspace, and
+      // map the axis back.
+      Matrix covariance = MatrixTools.computeCovariance(points);
+      Matrix transform;
+      if (options.varianceExplained() < 1.0) {
+        transform = MatrixTools.computePrincipalAxes(covariance, options.varianceExplained(),
+                                                     options.sphering());
+        if (monitor != null)
+          monitor.writeLine("Searching the first " + transform.getColumnDimension() + " of " +
+                            ndims + " principal components.");
+      } else
+        transform = MatrixTools.computeSpheringTransform(covariance);
+      if (transform.getColumnDimension() > 1)
+        searchedFunction = transformed = new AxisTransformFunction(projectionIndexFunction, transform);
+    }
+    double[] arguments = FunctionMaximizer.maximize(searchedFunction,
+                                                    algorithmIndex,
+                                                    monitor,
+                                                    parameters);
+    if (transformed != null)
+      arguments = transformed.computeFunctionArguments(arguments);
+    if (multiFidelity != null) {
+      arguments = multiFidelity.selectOnAllPoints(arguments);
+      multiFidelity.reportStatistics(monitor);
+    } else if (projectionIndexFunction instanceof CachingFunctionWrapper)
+      ((CachingFunctionWrapper) projectionIndexFunction).reportStatistics(monitor);
+    double[] axis = new double[points.getDimensionCount()];
+    double sumOfSquares = 0.0;
+    for (int j = 0; j < arguments.length; j++) {
+      double argument = arguments[j];
+      axis[j] = argument;
+      sumOfSquares += argument * argument;
+    }
+    axis[arguments.length] = sumOfSquares < 1.0 ? Math.sqrt(1.0 - sumOfSquares) : 0.0;
+    return axis;
+  }
+
+  private static Function createFunction(int projectionIndex,
+                                         SetOfPoints points,
+                                         double pointWeight,
+                                         SearchOptions options) {
+    Function function;
+    if (options.evaluationThreads() > 1)
+      function = new ParallelFunctionWrapper(
+        () -> createProjectionIndexFunction(projectionIndex, points, pointWeight, options),
+        ParallelEvaluator.getShared(options.evaluationThreads()));
+    else
+      function = createProjectionIndexFunction(projectionIndex, points, pointWeight, options);
+    return options.cacheEvaluations() ? new CachingFunctionWrapper(function) : function;
+  }
+
+  /**
+   * Returns a projection index function over <code>points</code> configured
+   * by <code>options</code> the way {@link #findAxis} configures the function
+   * it maximizes, for evaluating axes outside of a search.
+   */
+  public static ProjectionIndexFunction createProjectionIndexFunction(int projectionIndex,
+                                                                      SetOfPoints points,
+                                                                      SearchOptions options) {
+    return createProjectionIndexFunction(projectionIndex, points, 1.0, options);
+  }
+
+  private static ProjectionIndexFunction createProjectionIndexFunction(int projectionIndex,
+                                                                       SetOfPoints points,
+                                                                       double pointWeight,
+                                                                       SearchOptions options) {
+    ProjectionIndexFunction function = new ProjectionIndexFunction(projectionIndex,
+                                                                   points,
+                                                                   options.densityEngine());
+    function.setKernel(options.kernel());
+    function.setPointWeight(pointWeight);
+    function.setGridResolution(options.gridResolution());
+    function.setAdaptiveGrid(options.adaptiveGrid());
+    // Each copy under a ParallelFunctionWrapper already runs on a thread of
+    // its own.
+    function.setParallel(options.parallelEvaluation() && options.evaluationThreads() <= 1);
+    function.setMixtureWarmStart(options.mixtureWarmStart());
+    return function;
+  }
+
+  public static double[] findAxis(int projectionIndex,
+                                  SetOfPoints points,
+                                  Monitor monitor)
+          throws CancellationException, NoConvergenceException {
+    return findAxis(projectionIndex,
+            FunctionMaximizer.SIMPLEX_ALGORITHM_INDEX,
+            points,
+            monitor,
+            null);
+  }
+
+  /**
+   * Returns the value that separates the two clusters in the given ordered list of points on a line.
+   */
+  public static double split(double[] list) {
+    
+    final double PFACT2 = 1.0e-4;
+    
+    double sum = 0.0;
+    for (int i = 0; i < list.length; i++)
+      sum += list[i];
+    
+    double cutoff = 0.0;
+    double max = -1.0;
+    double lsum = 0.0;
+    
+    for (int l = 0; l < list.length - 1; l++) {
+      lsum += list[l];
+      double test = (list[l] - list[l + 1]) / list[l];
+      if (Math.abs(test) >= PFACT2) {
+        int r = list.length - l - 1;
+        double rsum = sum - lsum;
+        double m = (lsum * lsum / (l + 1)) + (rsum * rsum / r);
+        if (m > max) {
+          max = m;
+          cutoff = list[l];
+        }
+      }
+    }
+    
+    return cutoff;
+  }
+}
@@ -0,0 +1,121 @@
+package hicupp;
+
+import java.util.Arrays;
+
+/**
+ * A set of points stored column by column: one array per dimension, holding
+ * that coordinate of every point.
+ * <p>A projection onto an axis is computed one column at a time, so a
+ * change to a single axis coordinate can be applied to an existing
+ * projection with one pass over one column; see
+ * {@link #addColumn(int, double, double[])}.</p>
+ */
+public class ColumnSetOfPoints implements SetOfPoints {
+  private final int pointCount;
+  private final double[][] columns;
+  
+  /**
+   * @param columns <code>columns[i][k]</code> is coordinate <code>i</code>
+   *                of point <code>k</code>. All columns must have the same length.
+   */
+  public ColumnSetOfPoints(double[][] columns) {
+    pointCount = columns.length == 0 ? 0 : columns[0].length;
+    for (int i = 0; i < columns.length; i++)
+      if (columns[i].length != pointCount)
+        throw new IllegalArgumentException("Column " + i + " has " + columns[i].length +
+                                           " values; expected " + pointCount + ".");
+    this.columns = columns;
+  }
+  
+  /**
+   * Copies the coordinates of <code>points</code>.
+   */
+  public ColumnSetOfPoints(SetOfPoints points) {
+    int ndims = points.getDimensionCount();
+    pointCount = points.getPointCount();
+    columns = new double[ndims][pointCount];
+    PointIterator iterator = points.createIterator();
+    for (int k = 0; k < pointCount; k++) {
+      iterator.next();
+      for (int i = 0; i < ndims; i++)
+        columns[i][k] = iterator.getCoordinate(i);
+    }
+  }
+  
+  public int getDimensionCount() {
+    return columns.length;
+  }
+  
+  public int getPointCount() {
+    return pointCount;
+  }
+  
+  /**
+   * Returns the array holding coordinate <code>index</code> of each point.
+   * The array is not copied.
+   */
+  public double[] getColumn(int index) {
+    return columns[index];
+  }
+  
+  /**
+   * Returns the points with only the coordinates <code>indices</code>, in
+   * that order. The columns are shared, not copied.
+   */
+  public ColumnSetOfPoints selectColumns(int[] indices) {
+    double[][] selected = new double[indices.length][];
+    for (int i = 0; i < indices.length; i++)
+      selected[i] = columns[indices[i]];
+    return new ColumnSetOfPoints(selected);
+  }
+  
+  public void projectOnto(double[] axis, int from, int to, double[] out, int offset) {
+    Arrays.fill(out, offset, offset + to - from, 0.0);
+    for (int i = 0; i < columns.length; i++)
+      if (axis[i] != 0.0)
+        ArrayMath.axpy(axis[i], columns[i], from, out, offset, to - from);
+  }
+  
+  public void projectOnto(double[] axis, int[] indices, int from, int to, double[] out, int offset) {
+    Arrays.fill(out, offset, offset + to - from, 0.0);
+    for (int i = 0; i < columns.length; i++) {
+      double coefficient = axis[i];
+      if (coefficient == 0.0)
+        continue;
+      double[] column = columns[i];
+      for (int k = from; k < to; k++)
+        out[offset + k - from] += coefficient * column[indices[k]];
+    }
+  }
+  
+  /**
+   * Adds <code>coefficient</code> times coordinate <code>index</code> of
+   * each point to the corresponding element of <code>values</code>. Applied
+   * to a projection onto some axis, this gives the projection onto the axis
+   * with <code>coefficient</code> added to its coordinate <code>index</code>.
+   */
+  public void addColumn(int index, double coefficient, double[] values) {
+    if (coefficient != 0.0)
+      ArrayMath.axpy(coefficient, columns[index], 0, values, 0, pointCount);
+  }
+  
+  public PointIterator createIterator() {
+    return new ColumnPointIterator();
+  }
+  
+  private class ColumnPointIterator implements PointIterator {
+    private int k = -1;
+    
+    public boolean hasNext() {
+      return k + 1 < pointCount;
+    }
+    
+    public void next() {
+      k++;
+    }
+    
+    public double getCoordinate(int index) {
+      return columns[index][k];
+    }
+  }
+}
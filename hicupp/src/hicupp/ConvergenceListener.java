@@ -0,0 +1,17 @@
+package hicupp;
+
+/**
+ * Implemented by functions that can adapt how they are evaluated to the
+ * progress of the optimizer, for instance by computing cheaper
+ * approximations while the optimizer is far from a maximum.
+ */
+public interface ConvergenceListener {
+  /**
+   * Invoked by the optimizer with its current convergence measure, which
+   * decreases towards 0 as the optimizer converges.
+   * @return <code>true</code> if the function's values may have changed as a
+   *         result, so that values obtained earlier should be recomputed
+   *         before they are compared with new ones.
+   */
+  boolean convergenceChanged(double convergence);
+}
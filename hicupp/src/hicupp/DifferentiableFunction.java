@@ -0,0 +1,19 @@
+package hicupp;
+
+/**
+ * A function that can compute its gradient in closed form, so that an
+ * optimizer does not need to estimate it by finite differences.
+ */
+public interface DifferentiableFunction extends Function {
+  /**
+   * Returns <code>true</code> if
+   * {@link #evaluateWithGradient(double[], double[])} is supported.
+   */
+  boolean isDifferentiable();
+  /**
+   * Evaluates the function at <code>arguments</code> and stores its partial
+   * derivative with respect to <code>arguments[i]</code> in
+   * <code>gradient[i]</code>.
+   */
+  double evaluateWithGradient(double[] arguments, double[] gradient);
+}
@@ -0,0 +1,78 @@
+package hicupp;
+
+/**
+ * A set of points stored row by row in single precision, taking half the
+ * memory of an {@link ArraySetOfPoints}. Coordinates are widened to
+ * <code>double</code> as they are read, and projections are accumulated in
+ * double precision, so only the storage loses precision.
+ */
+public class FloatArraySetOfPoints implements SetOfPoints {
+  private final int dimensionCount;
+  private final int pointCount;
+  private final float[] matrix;
+  
+  public FloatArraySetOfPoints(int dimensionCount, float[] matrix) {
+    this.dimensionCount = dimensionCount;
+    pointCount = matrix.length / dimensionCount;
+    this.matrix = matrix;
+  }
+  
+  /**
+   * Rounds the coordinates in <code>matrix</code> to single precision.
+   */
+  public FloatArraySetOfPoints(int dimensionCount, double[] matrix) {
+    this(dimensionCount, toFloats(matrix));
+  }
+  
+  public static float[] toFloats(double[] values) {
+    float[] floats = new float[values.length];
+    for (int i = 0; i < values.length; i++)
+      floats[i] = (float) values[i];
+    return floats;
+  }
+  
+  public int getDimensionCount() {
+    return dimensionCount;
+  }
+  
+  public int getPointCount() {
+    return pointCount;
+  }
+  
+  public void projectOnto(double[] axis, int from, int to, double[] out, int offset) {
+    for (int k = from, row = from * dimensionCount; k < to; k++, row += dimensionCount)
+      out[offset + k - from] = dot(row, axis);
+  }
+  
+  public void projectOnto(double[] axis, int[] indices, int from, int to, double[] out, int offset) {
+    for (int k = from; k < to; k++)
+      out[offset + k - from] = dot(indices[k] * dimensionCount, axis);
+  }
+  
+  private double dot(int row, double[] axis) {
+    double value = 0.0;
+    for (int i = 0; i < dimensionCount; i++)
+      value += matrix[row + i] * axis[i];
+    return value;
+  }
+  
+  public PointIterator createIterator() {
+    return new MatrixPointIterator();
+  }
+  
+  private class MatrixPointIterator implements PointIterator {
+    private int i = -dimensionCount;
+    
+    public boolean hasNext() {
+      return (i + dimensionCount) < matrix.length;
+    }
+    
+    public void next() {
+      i += dimensionCount;
+    }
+    
+    public double getCoordinate(int index) {
+      return matrix[i + index];
+    }
+  }
+}
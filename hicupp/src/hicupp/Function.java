@@ -1,6 +1,17 @@
-package hicupp;
-
-public interface Function {
-  int getArgumentCount();
-  double evaluate(double[] arguments);
-}
+package hicupp;
+
+public interface Function {
+  int getArgumentCount();
+  double evaluate(double[] arguments);
+  
+  /**
+   * Evaluates the function at each argument list in <code>arguments</code>,
+   * storing the value for <code>arguments[k]</code> in <code>values[k]</code>.
+   * Implementations can override this to share work across the argument
+   * lists, for instance a single pass over the data.
+   */
+  default void evaluate(double[][] arguments, double[] values) {
+    for (int k = 0; k < arguments.length; k++)
+      values[k] = evaluate(arguments[k]);
+  }
+}
@@ -0,0 +1,64 @@
+package hicupp;
+
+/**
+ * The standard normal density, interpolated linearly between values
+ * tabulated at <code>intervalCount + 1</code> equally spaced points on
+ * [0, {@link #radius}], and evaluated exactly beyond.
+ * <p>The error of linear interpolation on an interval of width d is at
+ * most d^2 / 8 times the largest absolute second derivative on it. The
+ * second derivative of the density phi is (z^2 - 1) phi(z), whose largest
+ * absolute value is phi(0) = 0.3989, at 0. With 4096 intervals on [0, 4],
+ * d = 1 / 1024, so the absolute error is at most
+ * 0.3989 / 8 / 1024^2 = 4.76e-8 ({@link #maxError}), or about 1.2e-7
+ * relative to phi(0). {@link hicupp.test.TestGaussianKernelTable} checks
+ * the bound, and {@link hicupp.test.KernelBenchmark} measures the speed.</p>
+ */
+public final class GaussianKernelTable {
+  public static final double radius = 4.0;
+  public static final int intervalCount = 4096;
+  private static final double inverseStep = intervalCount / radius;
+  public static final double maxError =
+    1 / Math.sqrt(2 * Math.PI) / 8 / (inverseStep * inverseStep);
+  
+  /** The density at each tabulated point. */
+  private static final double[] values = new double[intervalCount + 1];
+  /** The change in density across each interval. */
+  private static final double[] slopes = new double[intervalCount];
+  
+  static {
+    for (int i = 0; i <= intervalCount; i++)
+      values[i] = ProjectionIndexFunction.kernel(i / inverseStep);
+    for (int i = 0; i < intervalCount; i++)
+      slopes[i] = values[i + 1] - values[i];
+  }
+  
+  private GaussianKernelTable() {
+  }
+  
+  public static double evaluate(double z) {
+    double position = Math.abs(z) * inverseStep;
+    int i = (int) position;
+    if (i >= intervalCount)
+      return ProjectionIndexFunction.kernel(z);
+    return values[i] + slopes[i] * (position - i);
+  }
+  
+  /**
+   * Returns the sum of the density at
+   * <code>(centre - values[i]) / bandwidth</code> over <code>i</code> in
+   * <code>[from, to)</code>.
+   */
+  public static double sum(double[] points, int from, int to, double centre, double bandwidth) {
+    final double scale = inverseStep / bandwidth;
+    double sum = 0.0;
+    for (int k = from; k < to; k++) {
+      double position = Math.abs(centre - points[k]) * scale;
+      int i = (int) position;
+      if (i < intervalCount)
+        sum += values[i] + slopes[i] * (position - i);
+      else
+        sum += ProjectionIndexFunction.kernel((centre - points[k]) / bandwidth);
+    }
+    return sum;
+  }
+}
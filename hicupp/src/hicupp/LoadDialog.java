@@ -4,12 +4,29 @@ import javax.swing.*;
 import java.awt.*;
 
 public abstract class LoadDialog extends JDialog {
+    private boolean singlePrecision;
+
     public LoadDialog(Frame parent, String title, boolean modal) {
         super(parent, title, modal);
     }
 
+    public boolean isSinglePrecision() {
+        return singlePrecision;
+    }
+
+    /**
+     * Makes the following loads parse the coordinates directly into single
+     * precision, so that they are never all held in double precision. Each
+     * load leaves the coordinates in exactly one of {@link #getCoords()} and
+     * {@link #getFloatCoords()}; the other returns <code>null</code>.
+     */
+    public void setSinglePrecision(boolean singlePrecision) {
+        this.singlePrecision = singlePrecision;
+    }
+
     public abstract int getColumnsCount();
     public abstract double[] getCoords();
+    public abstract float[] getFloatCoords();
     public abstract String getFilename();
     public abstract String[] getParameterNames();
     public abstract int skipFirstLine();
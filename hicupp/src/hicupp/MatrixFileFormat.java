@@ -1,59 +1,91 @@
-package hicupp;
-
-import java.io.*;
-import java.util.*;
-
-public class MatrixFileFormat {
-  public static double[] readMatrix(String filename, boolean skipFirstLine, int[] columns) throws IOException {
-    Vector<double[]> lines = new Vector<>();
-    
-    BufferedReader reader = new BufferedReader(new FileReader(filename));
-    StreamTokenizer t = new StreamTokenizer(reader);
-
-    t.eolIsSignificant(true);
-    if (skipFirstLine) {
-      do {
-        t.nextToken();
-        if (t.ttype == StreamTokenizer.TT_EOF)
-          throw new IOException("Syntax error: end-of-file before first end-of-line");
-      } while (t.ttype != StreamTokenizer.TT_EOL);
-    }
-    t.nextToken();
-    
-    while (true) {
-      while (t.ttype == StreamTokenizer.TT_EOL)
-        t.nextToken();
-      if (t.ttype == StreamTokenizer.TT_EOF)
-        break;
-      double[] line = new double[columns.length];
-      int column = 0;
-      for (int i = 0; i < line.length; i++) {
-        while (column < columns[i]) {
-          t.nextToken();
-          if (t.ttype == StreamTokenizer.TT_EOF || t.ttype == StreamTokenizer.TT_EOL)
-            throw new IOException("Syntax error: line " + t.lineno() + ": could not read column " + (columns[i] + 1) + ": premature end of line");
-          column++;
-        }
-        if (t.ttype != StreamTokenizer.TT_NUMBER)
-          throw new IOException("Syntax error: line " + t.lineno() + ": column " + (column + 1) + ": end of line or not a number");
-        line[i] = t.nval;
-      }
-      do
-        t.nextToken();
-      while (t.ttype != StreamTokenizer.TT_EOL && t.ttype != StreamTokenizer.TT_EOF);
-      lines.addElement(line);
-    }
-    
-    double[] matrix = new double[lines.size() * columns.length];
-    int k = 0;
-    for (int i = 0; i < lines.size(); i++) {
-      double[] line = lines.elementAt(i);
-      for (int j = 0; j < columns.length; j++)
-        matrix[k++] = line[j];
-    }
-    
-    reader.close();
-    
-    return matrix;
-  }
-}
+package hicupp;
+
+import java.io.*;
+import java.util.*;
+
+public class MatrixFileFormat {
+  /**
+   * Receives the coordinates as they are read, row by row.
+   */
+  private interface Sink {
+    void add(double value);
+  }
+  
+  private static class DoubleSink implements Sink {
+    double[] values = new double[1024];
+    int size;
+    
+    public void add(double value) {
+      if (size == values.length)
+        values = Arrays.copyOf(values, size + (size >> 1));
+      values[size++] = value;
+    }
+  }
+  
+  private static class FloatSink implements Sink {
+    float[] values = new float[1024];
+    int size;
+    
+    public void add(double value) {
+      if (size == values.length)
+        values = Arrays.copyOf(values, size + (size >> 1));
+      values[size++] = (float) value;
+    }
+  }
+  
+  public static double[] readMatrix(String filename, boolean skipFirstLine, int[] columns) throws IOException {
+    DoubleSink sink = new DoubleSink();
+    read(filename, skipFirstLine, columns, sink);
+    return Arrays.copyOf(sink.values, sink.size);
+  }
+  
+  /**
+   * Reads the matrix like {@link #readMatrix(String, boolean, int[])}, but
+   * rounds each coordinate to single precision as it is read, so that the
+   * coordinates are never all held in double precision.
+   */
+  public static float[] readFloatMatrix(String filename, boolean skipFirstLine, int[] columns) throws IOException {
+    FloatSink sink = new FloatSink();
+    read(filename, skipFirstLine, columns, sink);
+    return Arrays.copyOf(sink.values, sink.size);
+  }
+  
+  private static void read(String filename, boolean skipFirstLine, int[] columns, Sink sink) throws IOException {
+    BufferedReader reader = new BufferedReader(new FileReader(filename));
+    StreamTokenizer t = new StreamTokenizer(reader);
+
+    t.eolIsSignificant(true);
+    if (skipFirstLine) {
+      do {
+        t.nextToken();
+        if (t.ttype == StreamTokenizer.TT_EOF)
+          throw new IOException("Syntax error: end-of-file before first end-of-line");
+      } while (t.ttype != StreamTokenizer.TT_EOL);
+    }
+    t.nextToken();
+    
+    while (true) {
+      while (t.ttype == StreamTokenizer.TT_EOL)
+        t.nextToken();
+      if (t.ttype == StreamTokenizer.TT_EOF)
+        break;
+      int column = 0;
+      for (int i = 0; i < columns.length; i++) {
+        while (column < columns[i]) {
+          t.nextToken();
+          if (t.ttype == StreamTokenizer.TT_EOF || t.ttype == StreamTokenizer.TT_EOL)
+            throw new IOException("Syntax error: line " + t.lineno() + ": could not read column " + (columns[i] + 1) + ": premature end of line");
+          column++;
+        }
+        if (t.ttype != StreamTokenizer.TT_NUMBER)
+          throw new IOException("Syntax error: line " + t.lineno() + ": column " + (column + 1) + ": end of line or not a number");
+        sink.add(t.nval);
+      }
+      do
+        t.nextToken();
+      while (t.ttype != StreamTokenizer.TT_EOL && t.ttype != StreamTokenizer.TT_EOF);
+    }
+    
+    reader.close();
+  }
+}
@@ -1,39 +1,58 @@
-package hicupp;
-
-import Jama.*;
-
-public class MatrixSetOfPoints implements SetOfPoints {
-  private Matrix matrix;
-  
-  public MatrixSetOfPoints(Matrix matrix) {
-    this.matrix = matrix;
-  }
-  
-  public int getDimensionCount() {
-    return matrix.getColumnDimension();
-  }
-  
-  public int getPointCount() {
-    return matrix.getRowDimension();
-  }
-  
-  public PointIterator createIterator() {
-    return new MatrixPointIterator();
-  }
-  
-  private class MatrixPointIterator implements PointIterator {
-    private int row = -1;
-    
-    public boolean hasNext() {
-      return row < matrix.getRowDimension();
-    }
-    
-    public void next() {
-      row++;
-    }
-    
-    public double getCoordinate(int index) {
-      return matrix.get(row, index);
-    }
-  }
-}
+package hicupp;
+
+import Jama.*;
+
+public class MatrixSetOfPoints implements SetOfPoints {
+  private Matrix matrix;
+  
+  public MatrixSetOfPoints(Matrix matrix) {
+    this.matrix = matrix;
+  }
+  
+  public int getDimensionCount() {
+    return matrix.getColumnDimension();
+  }
+  
+  public int getPointCount() {
+    return matrix.getRowDimension();
+  }
+  
+  public void projectOnto(double[] axis, int from, int to, double[] out, int offset) {
+    double[][] rows = matrix.getArray();
+    for (int k = from; k < to; k++)
+      out[offset + k - from] = dot(rows[k], axis);
+  }
+  
+  public void projectOnto(double[] axis, int[] indices, int from, int to, double[] out, int offset) {
+    double[][] rows = matrix.getArray();
+    for (int k = from; k < to; k++)
+      out[offset + k - from] = dot(rows[indices[k]], axis);
+  }
+  
+  private static double dot(double[] row, double[] axis) {
+    double value = 0.0;
+    for (int i = 0; i < row.length; i++)
+      value += row[i] * axis[i];
+    return value;
+  }
+  
+  public PointIterator createIterator() {
+    return new MatrixPointIterator();
+  }
+  
+  private class MatrixPointIterator implements PointIterator {
+    private int row = -1;
+    
+    public boolean hasNext() {
+      return row < matrix.getRowDimension();
+    }
+    
+    public void next() {
+      row++;
+    }
+    
+    public double getCoordinate(int index) {
+      return matrix.get(row, index);
+    }
+  }
+}
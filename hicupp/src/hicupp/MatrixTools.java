@@ -1,85 +1,228 @@
-package hicupp;
-
-import Jama.*;
-
-public class MatrixTools {
-  public static Matrix computeVariance(Matrix matrix) {
-    int npoints = matrix.getRowDimension();
-    int ndims = matrix.getColumnDimension();
-    double[][] array = matrix.getArray();
-    Matrix varianceMatrix = new Matrix(ndims, ndims);
-    final double[][] variance = varianceMatrix.getArray();
-    for (int i = 0; i < ndims; i++)
-      for (int j = 0; j < ndims; j++) {
-        double sum = 0.0;
-        for (int k = 0; k < npoints; k++)
-          sum += array[k][i] * array[k][j];
-        variance[i][j] = sum;
-      }
-    return varianceMatrix;
-  }
-  
-  public static double[] computeCenter(Matrix matrix) {
-    double[] center = sumOfRows(matrix);
-    int npoints = matrix.getRowDimension();
-    for (int i = 0; i < center.length; i++)
-      center[i] /= npoints;
-    return center;
-  }
-  
-  public static void multiply(double[] vector, double factor) {
-    for (int i = 0; i < vector.length; i++)
-      vector[i] *= factor;
-  }
-  
-  public static void addToRows(Matrix matrix, double[] vector) {
-    double[][] rows = matrix.getArray();
-    int npoints = rows.length;
-    int ndims = vector.length;
-    for (int i = 0; i < npoints; i++) {
-      double[] row = rows[i];
-      for (int j = 0; j < ndims; j++)
-        row[j] += vector[j];
-    }
-  }
-  
-  public static void subtractFromRows(Matrix matrix, double[] vector) {
-    double[][] rows = matrix.getArray();
-    int npoints = rows.length;
-    int ndims = vector.length;
-    for (int i = 0; i < npoints; i++) {
-      double[] row = rows[i];
-      for (int j = 0; j < ndims; j++)
-        row[j] -= vector[j];
-    }
-  }
-  
-  public static Matrix setOfPointsToMatrix(SetOfPoints points) {
-    int npoints = points.getPointCount();
-    int ndims = points.getDimensionCount();
-    
-    double[][] array = new double[npoints][ndims];
-    PointIterator iter = points.createIterator();
-    for (int i = 0; i < npoints; i++) {
-      iter.next();
-      double[] row = array[i];
-      for (int j = 0; j < ndims; j++)
-        row[j] = iter.getCoordinate(j);
-    }
-    
-    return new Matrix(array, npoints, ndims);
-  }
-
-  public static double[] sumOfRows(Matrix matrix) {
-    double[][] array = matrix.getArray();
-    int nrows = array.length;
-    int ncols = array[0].length;
-    double[] sum = new double[ncols];
-    for (int i = 0; i < nrows; i++) {
-      double[] row = array[i];
-      for (int j = 0; j < ncols; j++)
-        sum[j] += row[j];
-    }
-    return sum;
-  }
-}
+package hicupp;
+
+import Jama.*;
+
+import java.util.Arrays;
+
+public class MatrixTools {
+  public static Matrix computeVariance(Matrix matrix) {
+    int npoints = matrix.getRowDimension();
+    int ndims = matrix.getColumnDimension();
+    double[][] array = matrix.getArray();
+    Matrix varianceMatrix = new Matrix(ndims, ndims);
+    final double[][] variance = varianceMatrix.getArray();
+    for (int i = 0; i < ndims; i++)
+      for (int j = 0; j < ndims; j++) {
+        double sum = 0.0;
+        for (int k = 0; k < npoints; k++)
+          sum += array[k][i] * array[k][j];
+        variance[i][j] = sum;
+      }
+    return varianceMatrix;
+  }
+  
+  /**
+   * Returns the covariance matrix of <code>points</code>, normalized by the
+   * number of points. It is taken from the points' own
+   * {@link PointStatistics} if they keep them; otherwise it is accumulated in
+   * one pass, about the first point so that it does not lose precision when
+   * the coordinates are far from 0.
+   */
+  public static Matrix computeCovariance(SetOfPoints points) {
+    final int ndims = points.getDimensionCount();
+    final int npoints = points.getPointCount();
+    Matrix covarianceMatrix = new Matrix(ndims, ndims);
+    final double[][] covariance = covarianceMatrix.getArray();
+    if (points instanceof PointStatistics) {
+      PointStatistics statistics = (PointStatistics) points;
+      for (int i = 0; i < ndims; i++)
+        for (int j = 0; j <= i; j++)
+          covariance[i][j] = covariance[j][i] = statistics.getCovariance(i, j);
+      return covarianceMatrix;
+    }
+    
+    double[] origin = null;
+    double[] deviation = new double[ndims];
+    double[] sums = new double[ndims];
+    PointIterator iter = points.createIterator();
+    for (int k = 0; k < npoints; k++) {
+      iter.next();
+      if (origin == null) {
+        origin = new double[ndims];
+        for (int i = 0; i < ndims; i++)
+          origin[i] = iter.getCoordinate(i);
+      }
+      for (int i = 0; i < ndims; i++) {
+        deviation[i] = iter.getCoordinate(i) - origin[i];
+        sums[i] += deviation[i];
+      }
+      for (int i = 0; i < ndims; i++)
+        for (int j = 0; j <= i; j++)
+          covariance[i][j] += deviation[i] * deviation[j];
+    }
+    for (int i = 0; i < ndims; i++)
+      for (int j = 0; j <= i; j++)
+        covariance[i][j] = covariance[j][i] =
+          covariance[i][j] / npoints - (sums[i] / npoints) * (sums[j] / npoints);
+    return covarianceMatrix;
+  }
+  
+  /**
+   * Returns a matrix <code>T</code> such that the points, once centred and
+   * multiplied by the transpose of <code>T</code>, have the identity
+   * covariance matrix. A projection axis <code>b</code> for the sphered
+   * points corresponds to the axis <code>Tb</code> for the original points.
+   * <p><code>T</code> is the inverse of the transpose of the Cholesky factor
+   * of <code>covariance</code>. If <code>covariance</code> is singular, or
+   * nearly so, the eigendecomposition is used instead, and the directions
+   * with (nearly) zero variance are left out, so that <code>T</code> has
+   * fewer columns than rows.</p>
+   */
+  public static Matrix computeSpheringTransform(Matrix covariance) {
+    final double tolerance = 1e-10;
+    final int ndims = covariance.getRowDimension();
+    final double[][] c = covariance.getArray();
+    
+    CholeskyDecomposition cholesky = covariance.chol();
+    boolean wellConditioned = cholesky.isSPD();
+    double[][] l = cholesky.getL().getArray();
+    for (int i = 0; i < ndims && wellConditioned; i++)
+      wellConditioned = l[i][i] * l[i][i] > tolerance * c[i][i];
+    if (wellConditioned)
+      return cholesky.getL().transpose().inverse();
+    
+    EigenvalueDecomposition eig = covariance.eig();
+    double[] eigenvalues = eig.getRealEigenvalues();
+    double[][] v = eig.getV().getArray();
+    double max = 0.0;
+    for (int i = 0; i < ndims; i++)
+      max = Math.max(max, eigenvalues[i]);
+    int rank = 0;
+    for (int i = 0; i < ndims; i++)
+      if (eigenvalues[i] > tolerance * max)
+        rank++;
+    Matrix transformMatrix = new Matrix(ndims, rank);
+    double[][] transform = transformMatrix.getArray();
+    for (int i = 0, k = 0; i < ndims; i++) {
+      if (eigenvalues[i] > tolerance * max) {
+        double factor = 1.0 / Math.sqrt(eigenvalues[i]);
+        for (int j = 0; j < ndims; j++)
+          transform[j][k] = v[j][i] * factor;
+        k++;
+      }
+    }
+    return transformMatrix;
+  }
+  
+  /**
+   * Returns the matrix whose columns are the principal axes of
+   * <code>covariance</code> in order of decreasing variance, as many as are
+   * needed for their variances to add up to the fraction
+   * <code>varianceExplained</code> of the total, but at least two if there
+   * are. Since the variances are those of the coordinates as they are, the
+   * choice depends on the scales of the coordinates.
+   * @param sphering Whether to divide each axis by the standard deviation
+   *                 along it, so that the points have the identity
+   *                 covariance matrix in the principal subspace. Axes with
+   *                 (nearly) zero variance are then left out.
+   */
+  public static Matrix computePrincipalAxes(Matrix covariance, double varianceExplained,
+                                            boolean sphering) {
+    final double tolerance = 1e-10;
+    final int ndims = covariance.getRowDimension();
+    EigenvalueDecomposition eig = covariance.eig();
+    final double[] eigenvalues = eig.getRealEigenvalues();
+    double[][] v = eig.getV().getArray();
+    
+    Integer[] order = new Integer[ndims];
+    double total = 0.0;
+    for (int i = 0; i < ndims; i++) {
+      order[i] = i;
+      total += Math.max(0.0, eigenvalues[i]);
+    }
+    Arrays.sort(order, (i, j) -> Double.compare(eigenvalues[j], eigenvalues[i]));
+    
+    int count = 0;
+    double explained = 0.0;
+    while (count < ndims &&
+           (count < 2 || explained < varianceExplained * total) &&
+           !(sphering && eigenvalues[order[count]] <= tolerance * eigenvalues[order[0]])) {
+      explained += Math.max(0.0, eigenvalues[order[count]]);
+      count++;
+    }
+    
+    Matrix axesMatrix = new Matrix(ndims, count);
+    double[][] axes = axesMatrix.getArray();
+    for (int k = 0; k < count; k++) {
+      int i = order[k];
+      double factor = sphering ? 1.0 / Math.sqrt(eigenvalues[i]) : 1.0;
+      for (int j = 0; j < ndims; j++)
+        axes[j][k] = v[j][i] * factor;
+    }
+    return axesMatrix;
+  }
+  
+  public static double[] computeCenter(Matrix matrix) {
+    double[] center = sumOfRows(matrix);
+    int npoints = matrix.getRowDimension();
+    for (int i = 0; i < center.length; i++)
+      center[i] /= npoints;
+    return center;
+  }
+  
+  public static void multiply(double[] vector, double factor) {
+    for (int i = 0; i < vector.length; i++)
+      vector[i] *= factor;
+  }
+  
+  public static void addToRows(Matrix matrix, double[] vector) {
+    double[][] rows = matrix.getArray();
+    int npoints = rows.length;
+    int ndims = vector.length;
+    for (int i = 0; i < npoints; i++) {
+      double[] row = rows[i];
+      for (int j = 0; j < ndims; j++)
+        row[j] += vector[j];
+    }
+  }
+  
+  public static void subtractFromRows(Matrix matrix, double[] vector) {
+    double[][] rows = matrix.getArray();
+    int npoints = rows.length;
+    int ndims = vector.length;
+    for (int i = 0; i < npoints; i++) {
+      double[] row = rows[i];
+      for (int j = 0; j < ndims; j++)
+        row[j] -= vector[j];
+    }
+  }
+  
+  public static Matrix setOfPointsToMatrix(SetOfPoints points) {
+    int npoints = points.getPointCount();
+    int ndims = points.getDimensionCount();
+    
+    double[][] array = new double[npoints][ndims];
+    PointIterator iter = points.createIterator();
+    for (int i = 0; i < npoints; i++) {
+      iter.next();
+      double[] row = array[i];
+      for (int j = 0; j < ndims; j++)
+        row[j] = iter.getCoordinate(j);
+    }
+    
+    return new Matrix(array, npoints, ndims);
+  }
+
+  public static double[] sumOfRows(Matrix matrix) {
+    double[][] array = matrix.getArray();
+    int nrows = array.length;
+    int ncols = array[0].length;
+    double[] sum = new double[ncols];
+    for (int i = 0; i < nrows; i++) {
+      double[] row = array[i];
+      for (int j = 0; j < ncols; j++)
+        sum[j] += row[j];
+    }
+    return sum;
+  }
+}
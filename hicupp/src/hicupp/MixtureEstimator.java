@@ -0,0 +1,318 @@
+package hicupp;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Fits a mixture of univariate normal components to a list of values by
+ * expectation maximization, in the same way as {@link MixedModel}, but
+ * without allocating or printing anything once its buffers have grown to
+ * the number of values.
+ * <p>Each fit runs a number of restarts from random posterior
+ * probabilities, and keeps the one with the lowest AIC. Restarts are
+ * independent, each with its own buffers, and run in parallel when there
+ * are enough values to make that worthwhile, unless the parallel mode is
+ * turned off; see {@link #setParallel(boolean)}.</p>
+ * <p>Optionally, the first restart of each fit starts from the parameters
+ * of the previous fit instead, so that a fit to values that changed little
+ * (such as projections onto a nearby axis) converges in a few iterations.
+ * The fit then depends on the values fitted before, and not only on the
+ * values themselves, so this is off by default.</p>
+ * <p>An estimator is not thread-safe; use one per thread.</p>
+ */
+public final class MixtureEstimator {
+  private static final double criter = 0.001f;
+  private static final int iter = 500;
+  private static final int pp = 1;
+  /**
+   * The number of values times the number of restarts below which the
+   * restarts run one after the other.
+   */
+  private static final int parallelThreshold = 1 << 15;
+  
+  private final int mixcomp;
+  private final Restart[] restarts;
+  
+  private boolean warmStart;
+  private boolean parallel = true;
+  private boolean warm;
+  private final double[] mixprob;
+  private final double[] mugg;
+  private final double[] covgg;
+  private double aic;
+  private double loglik;
+  private int iterationCount;
+  
+  /**
+   * @param mixcomp The number of components.
+   * @param restartCount The number of restarts of each fit.
+   */
+  public MixtureEstimator(int mixcomp, int restartCount) {
+    this.mixcomp = mixcomp;
+    restarts = new Restart[restartCount];
+    for (int r = 0; r < restartCount; r++)
+      restarts[r] = new Restart();
+    mixprob = new double[mixcomp];
+    mugg = new double[mixcomp];
+    covgg = new double[mixcomp];
+  }
+  
+  private final class Restart {
+    /** The posterior probability of component j for value i, at i * mixcomp + j. */
+    double[] postprobcons = new double[0];
+    final double[] densitygg = new double[mixcomp];
+    final double[] exponents = new double[mixcomp];
+    final double[] logmixprob = new double[mixcomp];
+    final double[] lognormalizer = new double[mixcomp];
+    final double[] mixprob = new double[mixcomp];
+    final double[] mugg = new double[mixcomp];
+    final double[] covgg = new double[mixcomp];
+    double aic;
+    double loglik;
+    int iterationCount;
+    
+    /**
+     * @param weights If not <code>null</code>, the number of observations
+     *                that each value stands for.
+     * @param spreads If not <code>null</code>, the sum of the squared
+     *                deviations from each value of the observations it
+     *                stands for.
+     */
+    void run(double[] values, double[] weights, double[] spreads, int n, boolean fromWarmStart) {
+      if (postprobcons.length < n * mixcomp)
+        postprobcons = new double[n * mixcomp];
+      
+      if (fromWarmStart) {
+        System.arraycopy(MixtureEstimator.this.mugg, 0, mugg, 0, mixcomp);
+        System.arraycopy(MixtureEstimator.this.covgg, 0, covgg, 0, mixcomp);
+        for (int i = 0; i < n; i++) {
+          computeDensities(values[i]);
+          double sum = 0;
+          for (int j = 0; j < mixcomp; j++)
+            sum += densitygg[j];
+          for (int j = 0; j < mixcomp; j++)
+            postprobcons[i * mixcomp + j] = densitygg[j] / sum;
+        }
+      } else {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < n; i++) {
+          double sum = 0;
+          for (int j = 0; j < mixcomp; j++) {
+            double x = random.nextDouble();
+            postprobcons[i * mixcomp + j] = x;
+            sum += x;
+          }
+          for (int j = 0; j < mixcomp; j++)
+            postprobcons[i * mixcomp + j] /= sum;
+        }
+      }
+      
+      double total = n;
+      if (weights != null) {
+        total = 0;
+        for (int i = 0; i < n; i++)
+          total += weights[i];
+      }
+      
+      double oldaic = 0;
+      
+      for (int k = 1; k <= iter; k++) {
+        iterationCount = k;
+        
+        for (int j = 0; j < mixcomp; j++) {
+          double sum = 0;
+          for (int i = 0; i < n; i++)
+            sum += weight(weights, i) * postprobcons[i * mixcomp + j];
+          sum /= total;
+          mixprob[j] = sum;
+        }
+        
+        for (int j = 0; j < mixcomp; j++) {
+          double sum = 0;
+          for (int i = 0; i < n; i++)
+            sum += weight(weights, i) * values[i] * postprobcons[i * mixcomp + j];
+          sum /= total * mixprob[j];
+          mugg[j] = sum;
+        }
+        
+        for (int j = 0; j < mixcomp; j++) {
+          double sum = 0;
+          for (int i = 0; i < n; i++) {
+            double facmin = values[i] - mugg[j];
+            sum += weight(weights, i) * postprobcons[i * mixcomp + j] * facmin * facmin;
+            if (spreads != null)
+              sum += postprobcons[i * mixcomp + j] * spreads[i];
+          }
+          sum /= total * mixprob[j];
+          covgg[j] = sum;
+        }
+        
+        // Accumulate the log-likelihood under the current posterior
+        // probabilities, and replace them by the new ones, in one pass. The
+        // log of each density is taken from its exponent rather than by
+        // calling log; as in MixedModel, terms are left out where the
+        // density or the mixing probability is zero.
+        
+        final double sqrt2pi = Math.sqrt(2 * Math.PI);
+        for (int j = 0; j < mixcomp; j++) {
+          logmixprob[j] = Math.log(mixprob[j]);
+          lognormalizer[j] = Math.log(sqrt2pi * Math.sqrt(covgg[j]));
+        }
+        
+        loglik = 0;
+        for (int i = 0; i < n; i++) {
+          computeDensities(values[i]);
+          double sum = 0;
+          for (int j = 0; j < mixcomp; j++) {
+            double x = logmixprob[j];
+            if (!Double.isInfinite(x) && densitygg[j] != 0.0) {
+              loglik += weight(weights, i) * postprobcons[i * mixcomp + j] * (x + exponents[j] - lognormalizer[j]);
+              if (spreads != null)
+                loglik -= postprobcons[i * mixcomp + j] * spreads[i] / 2 / covgg[j];
+            }
+            sum += densitygg[j];
+          }
+          for (int j = 0; j < mixcomp; j++)
+            postprobcons[i * mixcomp + j] = densitygg[j] / sum;
+        }
+        
+        aic = -2 * loglik + 2 * getParameterCount();
+        
+        if (k > 1 && Math.abs(aic - oldaic) < criter)
+          break;
+        
+        oldaic = aic;
+      }
+    }
+    
+    private double weight(double[] weights, int i) {
+      return weights == null ? 1.0 : weights[i];
+    }
+    
+    private void computeDensities(double value) {
+      final double sqrt2pi = Math.sqrt(2 * Math.PI);
+      for (int j = 0; j < mixcomp; j++) {
+        double delta = value - mugg[j];
+        exponents[j] = -delta * delta / 2 / covgg[j];
+        densitygg[j] = Math.exp(exponents[j]) / sqrt2pi / Math.sqrt(covgg[j]);
+      }
+    }
+  }
+  
+  /**
+   * Fits the mixture to <code>values[0..n)</code>.
+   */
+  public void fit(double[] values, int n) {
+    fit(values, null, null, n);
+  }
+  
+  /**
+   * Fits the mixture to <code>values[0..n)</code>, where
+   * <code>values[i]</code> stands for <code>weights[i]</code> observations
+   * whose squared deviations from it add up to <code>spreads[i]</code>, such
+   * as the mean of the values in a bin of a histogram. The spread enters
+   * the variances and the likelihood, so that components cannot shrink onto
+   * single bins. Each EM iteration costs O(n) whatever the weights add up
+   * to, so fitting to the bins of a histogram of many values costs as much
+   * as fitting to as many values as there are bins.
+   * @param spreads May be <code>null</code> if all spreads are zero.
+   */
+  public void fit(final double[] values, final double[] weights, final double[] spreads, final int n) {
+    final boolean fromWarmStart = warmStart && warm && !Double.isNaN(aic);
+    final int restartCount = restarts.length;
+    
+    if (parallel && restartCount > 1 && (long) n * restartCount >= parallelThreshold)
+      IntStream.range(0, restartCount).parallel().forEach(r -> restarts[r].run(values, weights, spreads, n, fromWarmStart && r == 0));
+    else
+      for (int r = 0; r < restartCount; r++)
+        restarts[r].run(values, weights, spreads, n, fromWarmStart && r == 0);
+    
+    Restart best = restarts[0];
+    for (int r = 1; r < restartCount; r++)
+      if (restarts[r].aic < best.aic)
+        best = restarts[r];
+    
+    System.arraycopy(best.mixprob, 0, mixprob, 0, mixcomp);
+    System.arraycopy(best.mugg, 0, mugg, 0, mixcomp);
+    System.arraycopy(best.covgg, 0, covgg, 0, mixcomp);
+    aic = best.aic;
+    loglik = best.loglik;
+    iterationCount = best.iterationCount;
+    warm = true;
+  }
+  
+  public boolean isWarmStart() {
+    return warmStart;
+  }
+  
+  /**
+   * Lets the first restart of each fit start from the parameters of the
+   * previous fit.
+   */
+  public void setWarmStart(boolean warmStart) {
+    this.warmStart = warmStart;
+  }
+  
+  public boolean isParallel() {
+    return parallel;
+  }
+  
+  /**
+   * Lets the restarts of a fit run on the threads of the common fork-join
+   * pool. On by default; turn it off when the estimator is itself used on
+   * one of several threads evaluating in parallel.
+   */
+  public void setParallel(boolean parallel) {
+    this.parallel = parallel;
+  }
+  
+  /**
+   * Makes the next fit start from random posterior probabilities only.
+   */
+  public void reset() {
+    warm = false;
+  }
+  
+  public int getComponentCount() {
+    return mixcomp;
+  }
+  
+  public double getAic() {
+    return aic;
+  }
+  
+  /**
+   * Returns the log-likelihood of the best restart of the last fit; the AIC
+   * is <code>-2 * getLogLikelihood() + 2 * getParameterCount()</code>.
+   */
+  public double getLogLikelihood() {
+    return loglik;
+  }
+  
+  /**
+   * Returns the number of free parameters of the mixture, which the AIC
+   * penalizes.
+   */
+  public int getParameterCount() {
+    return mixcomp + mixcomp - 1 + (mixcomp * (pp + (pp * (pp - 1) / 2)));
+  }
+  
+  /**
+   * Returns the number of EM iterations of the best restart of the last fit.
+   */
+  public int getIterationCount() {
+    return iterationCount;
+  }
+  
+  public double getMixingProbability(int component) {
+    return mixprob[component];
+  }
+  
+  public double getMean(int component) {
+    return mugg[component];
+  }
+  
+  public double getVariance(int component) {
+    return covgg[component];
+  }
+}
@@ -1,23 +1,65 @@
-package hicupp;
-
-public class MonitoringFunctionWrapper {
-  private Function function;
-  private Monitor monitor;
-  
-  public MonitoringFunctionWrapper(Function function, Monitor monitor) {
-    this.function = function;
-    this.monitor = monitor;
-  }
-  
-  public int getArgumentCount() {
-    return function.getArgumentCount();
-  }
-  
-  public double evaluate(double[] arguments) throws CancellationException {
-    if (monitor != null) {
-      monitor.continuing();
-      monitor.evaluationStarted();
-    }
-    return function.evaluate(arguments);
-  }
-}
+package hicupp;
+
+public class MonitoringFunctionWrapper {
+  private Function function;
+  private Monitor monitor;
+  
+  public MonitoringFunctionWrapper(Function function, Monitor monitor) {
+    this.function = function;
+    this.monitor = monitor;
+  }
+  
+  public int getArgumentCount() {
+    return function.getArgumentCount();
+  }
+  
+  public double evaluate(double[] arguments) throws CancellationException {
+    if (monitor != null) {
+      monitor.continuing();
+      monitor.evaluationStarted();
+    }
+    return function.evaluate(arguments);
+  }
+  
+  /**
+   * Evaluates the function at each argument list in <code>arguments</code>
+   * as a single batch. The monitor is notified of each evaluation before
+   * the batch starts.
+   */
+  public void evaluate(double[][] arguments, double[] values) throws CancellationException {
+    if (monitor != null) {
+      for (int k = 0; k < arguments.length; k++) {
+        monitor.continuing();
+        monitor.evaluationStarted();
+      }
+    }
+    function.evaluate(arguments, values);
+  }
+  
+  /**
+   * Passes the optimizer's convergence measure on to the function, if it is
+   * a {@link ConvergenceListener}.
+   * @return <code>true</code> if the function's values may have changed.
+   */
+  public boolean convergenceChanged(double convergence) {
+    return function instanceof ConvergenceListener &&
+           ((ConvergenceListener) function).convergenceChanged(convergence);
+  }
+  
+  public boolean isDifferentiable() {
+    return function instanceof DifferentiableFunction &&
+           ((DifferentiableFunction) function).isDifferentiable();
+  }
+  
+  /**
+   * Evaluates the function and its gradient. Only valid if
+   * {@link #isDifferentiable()} returns <code>true</code>.
+   */
+  public double evaluateWithGradient(double[] arguments, double[] gradient) throws CancellationException {
+    if (monitor != null) {
+      monitor.continuing();
+      monitor.evaluationStarted();
+    }
+    return ((DifferentiableFunction) function).evaluateWithGradient(arguments, gradient);
+  }
+}
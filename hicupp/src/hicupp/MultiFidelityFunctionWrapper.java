@@ -0,0 +1,237 @@
+package hicupp;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Evaluates a projection index on a random sample of the points while the
+ * optimizer is far from the maximum, and on larger samples as it closes in.
+ * <p>The sample is stratified: the points are divided into as many runs of
+ * consecutive points as the sample has points, and one point is drawn from
+ * each run. Each sampled point stands for the points of its run (see
+ * {@link ProjectionIndexFunction#setPointWeight(double)}), so that the
+ * values on samples of different sizes are comparable.</p>
+ * <p>The sample only grows when the optimizer reports its convergence (see
+ * {@link ConvergenceListener}): if the best value seen on the current sample
+ * has not improved for a number of evaluations, or the optimizer's
+ * convergence measure has fallen below {@link #growthConvergence}, the
+ * optimizer is taken to have converged as far as that sample allows, and
+ * the sample grows by a constant factor, up to all the points.
+ * {@link #convergenceChanged(double)} then returns <code>true</code>, so
+ * that the optimizer evaluates its points again before comparing them with
+ * new ones, and cannot stop before it has converged on all the points.</p>
+ * <p>Since the optimizer's own choice may owe something to the sampling, the
+ * best few axes seen on the largest sample are kept, and
+ * {@link #selectOnAllPoints(double[])} re-evaluates them on all the
+ * points.</p>
+ */
+public class MultiFidelityFunctionWrapper implements DifferentiableFunction, ConvergenceListener {
+  /**
+   * Creates the projection index function for a sample of the points.
+   */
+  public interface Factory {
+    /**
+     * @param pointWeight The number of points each point of
+     *                    <code>points</code> stands for.
+     */
+    Function createFunction(SetOfPoints points, double pointWeight);
+  }
+
+  public static final int defaultInitialSampleSize = 8192;
+  public static final int defaultGrowthFactor = 4;
+  private static final int candidateCount = 4;
+  /**
+   * The convergence measure below which the sample grows even if the best
+   * value is still improving; an order of magnitude above that at which the
+   * simplex algorithm stops.
+   */
+  public static final double growthConvergence = 1e-3;
+
+  private final SetOfPoints points;
+  private final Factory factory;
+  private final int growthFactor;
+  private final int stagnationLimit;
+  private final Random random;
+
+  private Function function;
+  private int sampleSize;
+  private double bestValue;
+  private int evaluationsSinceImprovement;
+  private long evaluationCount;
+  private int sampleCount;
+  private double convergence = Double.NaN;
+
+  private final double[][] candidates = new double[candidateCount][];
+  private final double[] candidateValues = new double[candidateCount];
+  private int candidatesKept;
+  private int candidatesChecked;
+
+  public MultiFidelityFunctionWrapper(SetOfPoints points, Factory factory) {
+    this(points, factory, defaultInitialSampleSize, defaultGrowthFactor,
+         10 * points.getDimensionCount(), new Random());
+  }
+
+  /**
+   * @param initialSampleSize The number of points sampled at first.
+   * @param growthFactor The factor by which the sample grows.
+   * @param stagnationLimit The number of evaluations without a new best
+   *                        value after which the sample grows.
+   */
+  public MultiFidelityFunctionWrapper(SetOfPoints points, Factory factory,
+                                      int initialSampleSize, int growthFactor,
+                                      int stagnationLimit, Random random) {
+    this.points = points;
+    this.factory = factory;
+    this.growthFactor = growthFactor;
+    this.stagnationLimit = stagnationLimit;
+    this.random = random;
+    setSampleSize(initialSampleSize);
+  }
+
+  public int getArgumentCount() {
+    return points.getDimensionCount() - 1;
+  }
+
+  public int getSampleSize() {
+    return sampleSize;
+  }
+
+  private void setSampleSize(int size) {
+    final int n = points.getPointCount();
+    if (size >= n) {
+      sampleSize = n;
+      function = factory.createFunction(points, 1.0);
+    } else {
+      sampleSize = size;
+      function = factory.createFunction(new SubsetOfPoints(points, sample(n, size, random)),
+                                        (double) n / size);
+    }
+    if (!Double.isNaN(convergence) && function instanceof ConvergenceListener)
+      ((ConvergenceListener) function).convergenceChanged(convergence);
+    sampleCount++;
+    bestValue = Double.NEGATIVE_INFINITY;
+    evaluationsSinceImprovement = 0;
+    candidatesKept = 0;
+  }
+
+  /**
+   * Returns <code>size</code> increasing indices below <code>n</code>, one
+   * drawn uniformly from each of <code>size</code> runs of consecutive
+   * indices of (nearly) equal length.
+   */
+  private static int[] sample(int n, int size, Random random) {
+    int[] indices = new int[size];
+    for (int k = 0; k < size; k++) {
+      int from = (int) ((long) k * n / size);
+      int to = (int) ((long) (k + 1) * n / size);
+      indices[k] = from + random.nextInt(to - from);
+    }
+    return indices;
+  }
+
+  public double evaluate(double[] arguments) {
+    double value = function.evaluate(arguments);
+    evaluated(arguments, value);
+    return value;
+  }
+
+  public void evaluate(double[][] arguments, double[] values) {
+    function.evaluate(arguments, values);
+    for (int k = 0; k < arguments.length; k++)
+      evaluated(arguments[k], values[k]);
+  }
+
+  public boolean isDifferentiable() {
+    return function instanceof DifferentiableFunction &&
+           ((DifferentiableFunction) function).isDifferentiable();
+  }
+
+  public double evaluateWithGradient(double[] arguments, double[] gradient) {
+    double value = ((DifferentiableFunction) function).evaluateWithGradient(arguments, gradient);
+    evaluated(arguments, value);
+    return value;
+  }
+
+  /**
+   * Passes the convergence measure on to the function for the current
+   * sample, and to those for later samples when they are created, and grows
+   * the sample if the optimizer has converged on it.
+   * @return <code>true</code> if the sample grew, or the function for the
+   *         current sample changed its values.
+   */
+  public boolean convergenceChanged(double convergence) {
+    this.convergence = convergence;
+    boolean changed = function instanceof ConvergenceListener &&
+                      ((ConvergenceListener) function).convergenceChanged(convergence);
+    final int n = points.getPointCount();
+    if (sampleSize < n &&
+        (evaluationsSinceImprovement >= stagnationLimit || convergence <= growthConvergence)) {
+      setSampleSize((int) Math.min((long) sampleSize * growthFactor, n));
+      return true;
+    }
+    return changed;
+  }
+
+  /**
+   * Records the value at <code>arguments</code> on the current sample.
+   */
+  private void evaluated(double[] arguments, double value) {
+    evaluationCount++;
+    if (value > bestValue) {
+      bestValue = value;
+      evaluationsSinceImprovement = 0;
+    } else
+      evaluationsSinceImprovement++;
+
+    if (sampleSize == points.getPointCount())
+      return;
+
+    int worst = -1;
+    for (int c = 0; c < candidatesKept; c++) {
+      if (Arrays.equals(candidates[c], arguments))
+        return;
+      if (worst < 0 || candidateValues[c] < candidateValues[worst])
+        worst = c;
+    }
+    if (candidatesKept < candidateCount)
+      worst = candidatesKept++;
+    else if (value <= candidateValues[worst])
+      return;
+    candidates[worst] = arguments.clone();
+    candidateValues[worst] = value;
+  }
+
+  /**
+   * Evaluates <code>arguments</code>, the optimizer's result, and the best
+   * axes seen on the current sample on all the points, and returns the best
+   * of them. Returns <code>arguments</code> if the sample is already all the
+   * points.
+   */
+  public double[] selectOnAllPoints(double[] arguments) {
+    if (sampleSize == points.getPointCount())
+      return arguments;
+
+    double[][] choices = new double[candidatesKept + 1][];
+    choices[0] = arguments;
+    for (int c = 0; c < candidatesKept; c++)
+      choices[c + 1] = candidates[c];
+    double[] values = new double[choices.length];
+    factory.createFunction(points, 1.0).evaluate(choices, values);
+    candidatesChecked = choices.length;
+
+    int best = 0;
+    for (int c = 1; c < choices.length; c++)
+      if (values[c] > values[best])
+        best = c;
+    return choices[best];
+  }
+
+  public void reportStatistics(Monitor monitor) {
+    if (monitor != null)
+      monitor.writeLine("Multi-fidelity evaluation: " + evaluationCount + " evaluations on " +
+                        sampleCount + " samples, the last of " + sampleSize + " of " +
+                        points.getPointCount() + " points" +
+                        (candidatesChecked > 0 ?
+                         "; " + candidatesChecked + " axes re-checked on all points." : "."));
+  }
+}
@@ -1,8 +1,8 @@
-package hicupp;
-
-public class NoConvergenceException extends Exception {
-  public NoConvergenceException() {}
-  public NoConvergenceException(String message) {
-    super(message);
-  }
-}
+package hicupp;
+
+public class NoConvergenceException extends Exception {
+  public NoConvergenceException() {}
+  public NoConvergenceException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,81 @@
+package hicupp;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Runs the evaluations of a batch on the threads of a fork-join pool,
+ * dividing the batch into about as many parts as the pool has threads.
+ * One evaluator can be shared by any number of functions; see
+ * {@link ParallelFunctionWrapper}.
+ */
+public class ParallelEvaluator {
+  /**
+   * Evaluates the elements <code>from</code> (inclusive) to
+   * <code>to</code> (exclusive) of a batch.
+   */
+  public interface Part {
+    /**
+     * @param part The index of the part, below {@link #getParallelism()};
+     *             the parts of a batch have different indices.
+     */
+    void evaluate(int part, int from, int to);
+  }
+  
+  private static final Map<Integer, ParallelEvaluator> shared = new HashMap<>();
+  
+  private final ForkJoinPool pool;
+  
+  public ParallelEvaluator(int parallelism) {
+    pool = new ForkJoinPool(parallelism);
+  }
+  
+  /**
+   * Returns an evaluator with the given parallelism, shared with other
+   * callers that ask for the same parallelism. There is one for each
+   * parallelism asked for, kept for the life of the program, so that a
+   * function still using one is never left with a pool that was shut down.
+   */
+  public static synchronized ParallelEvaluator getShared(int parallelism) {
+    return shared.computeIfAbsent(parallelism, ParallelEvaluator::new);
+  }
+  
+  public int getParallelism() {
+    return pool.getParallelism();
+  }
+  
+  /**
+   * Evaluates a batch of <code>count</code> elements, and returns when all
+   * parts have finished. If any part throws an exception, the first one is
+   * rethrown, but only after the other parts have finished, so that no
+   * evaluation outlives the call.
+   */
+  public void evaluate(int count, Part part) {
+    final int partCount = Math.min(count, getParallelism());
+    if (partCount <= 1) {
+      part.evaluate(0, 0, count);
+      return;
+    }
+    
+    ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[partCount];
+    for (int p = 0; p < partCount; p++) {
+      final int index = p;
+      final int from = (int) ((long) p * count / partCount);
+      final int to = (int) ((long) (p + 1) * count / partCount);
+      tasks[p] = pool.submit(() -> part.evaluate(index, from, to));
+    }
+    RuntimeException failure = null;
+    for (int p = 0; p < partCount; p++) {
+      try {
+        tasks[p].join();
+      } catch (RuntimeException e) {
+        if (failure == null)
+          failure = e;
+      }
+    }
+    if (failure != null)
+      throw failure;
+  }
+}
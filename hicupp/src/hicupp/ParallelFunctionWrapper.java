@@ -0,0 +1,110 @@
+package hicupp;
+
+/**
+ * Evaluates the argument lists of a batch in parallel, on the threads of a
+ * {@link ParallelEvaluator}. Each part of the batch is evaluated as a batch
+ * on a copy of the function of its own, created by a factory when the part
+ * first needs it, so that the function need not be safe for use by several
+ * threads. The copies are kept by the wrapper, one for each part index, and
+ * not by the evaluator's threads, so they are freed with the wrapper. The
+ * copies should not themselves evaluate in parallel (see
+ * {@link ProjectionIndexFunction#setParallel(boolean)}): the batch already
+ * keeps the evaluator's threads busy.
+ * <p>Single evaluations, and evaluations with the gradient, run on the
+ * calling thread, on the copy of the first part; so, like the function, the
+ * wrapper is for one caller at a time. The optimizers report each evaluation
+ * of a batch to their {@link Monitor} before the batch starts, on their own
+ * thread, so the monitor is never called from the evaluator's threads; and a
+ * batch does not return before all its parts have finished, so a
+ * cancellation never leaves evaluations running.</p>
+ */
+public class ParallelFunctionWrapper implements DifferentiableFunction, ConvergenceListener {
+  /**
+   * Creates a copy of the function.
+   */
+  public interface Factory {
+    Function createFunction();
+  }
+  
+  private final Factory factory;
+  private final ParallelEvaluator evaluator;
+  private final int argumentCount;
+  private final Function[] functions;
+  /**
+   * The smallest convergence measure reported so far. Functions such as
+   * {@link ProjectionIndexFunction} adapt to the smallest measure they have
+   * seen, not the last, so this is what a copy created later is given.
+   */
+  private double convergence = Double.NaN;
+  
+  public ParallelFunctionWrapper(Factory factory, ParallelEvaluator evaluator) {
+    this.factory = factory;
+    this.evaluator = evaluator;
+    functions = new Function[evaluator.getParallelism()];
+    argumentCount = getFunction(0).getArgumentCount();
+  }
+  
+  /**
+   * Returns the copy of the function for the part with the given index,
+   * creating it, and bringing it up to date with the optimizer's
+   * convergence, if there is none yet.
+   */
+  private synchronized Function getFunction(int part) {
+    Function function = functions[part];
+    if (function == null) {
+      function = factory.createFunction();
+      if (!Double.isNaN(convergence) && function instanceof ConvergenceListener)
+        ((ConvergenceListener) function).convergenceChanged(convergence);
+      functions[part] = function;
+    }
+    return function;
+  }
+  
+  public int getArgumentCount() {
+    return argumentCount;
+  }
+  
+  public double evaluate(double[] arguments) {
+    return getFunction(0).evaluate(arguments);
+  }
+  
+  public void evaluate(final double[][] arguments, final double[] values) {
+    evaluator.evaluate(arguments.length, (part, from, to) -> {
+      Function function = getFunction(part);
+      if (from == 0 && to == arguments.length) {
+        function.evaluate(arguments, values);
+        return;
+      }
+      double[][] partArguments = new double[to - from][];
+      double[] partValues = new double[to - from];
+      System.arraycopy(arguments, from, partArguments, 0, to - from);
+      function.evaluate(partArguments, partValues);
+      System.arraycopy(partValues, 0, values, from, to - from);
+    });
+  }
+  
+  public boolean isDifferentiable() {
+    Function function = getFunction(0);
+    return function instanceof DifferentiableFunction &&
+           ((DifferentiableFunction) function).isDifferentiable();
+  }
+  
+  public double evaluateWithGradient(double[] arguments, double[] gradient) {
+    return ((DifferentiableFunction) getFunction(0)).evaluateWithGradient(arguments, gradient);
+  }
+  
+  /**
+   * Passes the convergence measure on to every copy of the function, and the
+   * smallest measure so far to those created later.
+   */
+  public synchronized boolean convergenceChanged(double convergence) {
+    if (Double.isNaN(this.convergence) || convergence < this.convergence)
+      this.convergence = convergence;
+    boolean changed = false;
+    for (Function function : functions)
+      if (function instanceof ConvergenceListener &&
+          ((ConvergenceListener) function).convergenceChanged(convergence))
+        changed = true;
+    return changed;
+  }
+}
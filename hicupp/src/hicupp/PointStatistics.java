@@ -0,0 +1,18 @@
+package hicupp;
+
+/**
+ * The mean and covariance of a set of points, kept up to date by the set
+ * itself. The mean and variance of the points projected onto an axis
+ * <code>a</code> are then a<sup>T</sup>&mu; and a<sup>T</sup>&Sigma;a, which
+ * cost O(d<sup>2</sup>) rather than a pass over the points.
+ */
+public interface PointStatistics {
+  double getMean(int index);
+  
+  /**
+   * Returns the covariance of coordinates <code>index1</code> and
+   * <code>index2</code>, normalized by the number of points (not by one
+   * less).
+   */
+  double getCovariance(int index1, int index2);
+}
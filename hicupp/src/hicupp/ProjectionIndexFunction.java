@@ -1,313 +1,1733 @@
-package hicupp;
-
-import java.util.Stack;
-
-/**
- * A function that computes a projection index for projection pursuit
- * using the method described in Friedman and Tukey.
- * <p>Reference:<br />
- * <i>A Projection Pursuit Algorithm for Exploratory Data Analysis.<br />
- * J. H. Friedman and J. W. Tukey<br />
- * IEEE Transactions on Computers, Vol C-23 No. 9<br />
- * September 1974, p. 881-890</i></p>
- * <p>Author:<br />
- * Doug Reese<br />
- * IFAS Statistics<br />
- * 410 Rolfs Hall<br />
- * University of Florida<br />
- * Gainesville, FL 32611</p>
- */
-public class ProjectionIndexFunction implements Function {
-  private static final Distance entropyDistance = new Distance() {
-    public double evaluate(double fhat, double phi) {
-      return (fhat < 1e-10 ? 0 : fhat * Math.log(fhat)) -
-             phi * Math.log(phi);
-    }
-  };
-  
-  private static final Distance l1Distance = new Distance() {
-    public double evaluate(double fhat, double phi) {
-      return Math.abs(fhat - phi);
-    }
-  };
-  
-  private static final Distance hellingersDistance = new Distance() {
-    public double evaluate(double fhat, double phi) {
-      double d = Math.sqrt(fhat) - Math.sqrt(phi);
-      return d * d;
-    }
-  };
-  
-  private static final Distance friedmansDistance = new Distance() {
-    public double evaluate(double fhat, double phi) {
-      double d = fhat - phi;
-      return d * d / 2 / phi;
-    }
-  };
-  
-  private static final Distance hallsDistance = new Distance() {
-    public double evaluate(double fhat, double phi) {
-      double d = fhat - phi;
-      return d * d;
-    }
-  };
-  
-  private static final Distance cooksDistance = new Distance() {
-    public double evaluate(double fhat, double phi) {
-      double d = fhat - phi;
-      return d * d * phi;
-    }
-  };
-  
-  private static final String[] projectionIndices = {
-    "Shape",
-    "Mixed",
-    "Entropy",
-    "L1",
-    "Hellinger's",
-    "Friedman's",
-    "Hall's",
-    "Cook's"
-  };
-  
-  public static final int MIXED_PROJECTION_INDEX = 1;
-  public static final int FRIEDMANS_PROJECTION_INDEX = 5;
-
-  public static String[] getProjectionIndexNames() {
-    return projectionIndices;
-  }
-  
-  private static final Distance[] distances = {
-    entropyDistance,
-    l1Distance,
-    hellingersDistance,
-    friedmansDistance,
-    hallsDistance,
-    cooksDistance
-  };
-  
-  private int projectionIndex;
-  private SetOfPoints points;
-  
-  public ProjectionIndexFunction(int projectionIndex, SetOfPoints points) {
-    this.projectionIndex = projectionIndex;
-    this.points = points;
-  }
-  
-  public int getArgumentCount() {
-    return points.getDimensionCount() - 1;
-  }
-  
-  public double evaluate(double[] arguments) {
-    
-    final double HFACT  = 0.1;
-    
-    // Constrain the axis to be a unit vector.
-    
-    double sumOfSquares = 0.0;
-    for (int i = 0; i < arguments.length; i++) {
-      double argument = arguments[i];
-      sumOfSquares += argument * argument;
-    }
-    if (sumOfSquares <= 1.0) {
-      
-      final double[] axis = new double[points.getDimensionCount()];
-      for (int i = 0; i < arguments.length; i++)
-        axis[i] = arguments[i];
-      axis[arguments.length] = Math.sqrt(1.0 - sumOfSquares);
-      
-      // Project each data point onto the axis, giving a list of values.
-      
-      final double[] values = Projector.project(points, axis);
-      
-      final double mean;
-      final double variance;
-      final double standardDeviation;
-      {
-        double sum = 0.0;
-        double sumsq = 0.0;
-        for (int i = 0; i < values.length; i++) {
-          sum += values[i];
-          sumsq += values[i] * values[i];
-        }
-        mean = sum / values.length;
-        variance = sumsq / values.length - mean * mean;
-        standardDeviation = Math.sqrt(variance);
-      }
-      
-			// if (projectionIndex != MIXED_PROJECTION_INDEX)
-			for (int i = 0; i < values.length; i++)
-			  values[i] = (values[i] - mean) / standardDeviation;
-      
-      if (projectionIndex == 0) {    // "Shape"
-        final int n = values.length;
-        
-        double sum3 = 0.0;
-        double sum4 = 0.0;
-        
-        for (int i = 0; i < n; i++) {
-          double z = values[i];
-          double z3 = z * z * z;
-          sum3 += z3;
-          sum4 += z3 * z;
-        }
-        
-        final double skewness = sum3 * n / (n - 1) / (n - 2);
-        final double kurtosis = sum4 * n * (n + 1) / (n - 1) / (n - 2) / (n - 3) -
-                                3 * (n - 1) * (n - 1) / (n - 2) / (n - 3);
-      
-        final double k2 = variance;
-        final double k3 = skewness;
-        final double k4 = kurtosis;
-        
-        final double k2_3 = k2 * k2 * k2;
-        
-        return (k3 * k3 / k2_3 + k4 * k4 / k2_3 / k2 / 4) / 12;
-			} else if (projectionIndex == 1) { // Mixed
-				final int mixcomp = 2;
-				final int iterationCount = 4;
-				MixedModel mixedModel = MixedModel.iterate(mixcomp, values, iterationCount);
-				mixedModel.dump();
-				return -mixedModel.aic;
-      } else {
-          
-        // Sort the projected points in ascending order. (Using QuickSort.)
-      
-        Sorter.quickSort(values);
-
-        final double lowerQuantile = values[values.length / 4];
-        final double upperQuantile = values[values.length * 3 / 4];
-        final double interQuantileRange = upperQuantile - lowerQuantile;
-      
-        final double bandwidth = 1.06 *
-                                 Math.min(1.0, interQuantileRange / 1.34) *
-                                 Math.pow(values.length, -1d/5);
-      
-        final double xl = Math.max(Math.abs(values[0]),
-                                   Math.abs(values[values.length - 1]));
-      
-        final int m = 100;
-        final int M = 2 * m + 1;
-        final double[] fhat = new double[M];
-        final double[] Phi = new double[M];
-        final double step = xl / m;
-        final double x0 = -xl - step / 2;
-      
-        {
-          double x = x0;
-          int i0 = 0;
-          
-          for (int j = 0; j < M; j++) {
-            
-            while (i0 < values.length && values[i0] < x - 4 * bandwidth)
-              i0++;
-            
-            double sum = 0.0;
-            for (int i = i0; i < values.length && values[i] <= x + 4 * bandwidth; i++)
-              sum += kernel((x - values[i]) / bandwidth);
-            
-            fhat[j] = sum / bandwidth;
-            Phi[j] = kernel(x);
-            
-            x += step;
-            
-          }
-        }
-      
-        final Distance distance = distances[projectionIndex - 2];
-        final double[] integrand = new double[M];
-        for (int j = 0; j < M; j++)
-          integrand[j] = distance.evaluate(fhat[j], Phi[j]);
-      
-        return computeIntegral(M, step, integrand);
-      }
-    } else
-      return -3.4e38;
-  }
-  
-  private double computeIntegral(int n, double step, double[] f) {
-    double sum = 0.0;
-    for (int i = 1; i < n - 1; i++)
-      sum += f[i];
-    return (sum + (f[0] + f[n - 1]) / 2) * step;
-  }
-  
-  private static double kernel(double z) {
-    return 1 / Math.sqrt(2 * Math.PI) * Math.exp(z * z / -2);
-  }
-  
-  private static double calculateTrimmedStandardDeviation(double[] values) {
-    
-    /* Compute the standard deviation of the (sorted) list "values"
-     * ignoring the low and high entries. The number of entries to
-     * trim for each end is determined by the proportion "TFACT".
-     */
-    
-    final double TFACT  = 0.1;
-    
-    int ntrim = (int) (TFACT * values.length);
-    double nleft = values.length - 2.0 * ntrim;
-    double sum = 0.0;
-    double sumsq = 0.0;
-    for (int i = ntrim; i < values.length - ntrim; i++) {
-      double value = values[i];
-      sum += value;
-      sumsq += value * value;
-    }
-    double q = sum / nleft;
-    return Math.sqrt(sumsq / nleft - q * q);
-  }
-  
-  private static double calculateDensity(double[] list, double horzn) {
-    
-    /* Compute the weighted nearness of list items within the horizon
-     * "horzn" (equal points receive a weight equal to the horizon
-     * value, unequal points receive a weight which decreases linearly
-     * with increasing distance to zero at the horizon and beyond),
-     * for all possible pairings of points.
-     */
-    
-    // First, set up the vector of discrete "values" of "list".
-    
-    double[] value = new double[list.length];
-    int[] noccur = new int[list.length];
-    
-    int count = 0;
-    double curval = list[0];
-    value[0] = list[0];
-    noccur[0] = 1;
-    
-    for (int i = 1; i < list.length; i++) {
-      if (list[i] != curval) {
-        count++;
-        value[count] = list[i];
-        curval = list[i];
-        noccur[count] = 1;
-      } else {
-        noccur[count]++;
-      }
-    }
-    
-    double dense = 0.0;
-    for (int i = 0; i < count; i++) {
-      for (int j = i + 1; j <= count; j++) {
-        double dist = value[j] - value[i];
-        if (dist > horzn)
-          break;
-        dense += noccur[i] * noccur[j] * (horzn - dist);
-      }
-    }
-    for (int i = 0; i <= count; i++)
-      dense += 0.5 * (noccur[i] * (noccur[i] - 1)) * horzn;
-    
-    return 2.0 * dense + list.length * horzn;
-  }
-}
-
-interface Distance {
-  double evaluate(double fhat, double phi);
-}
-
-interface TabularFunction {
-  double evaluate(int index);
+package hicupp;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Stack;
+import java.util.stream.IntStream;
+
+/**
+ * A function that computes a projection index for projection pursuit
+ * using the method described in Friedman and Tukey.
+ * <p>Reference:<br />
+ * <i>A Projection Pursuit Algorithm for Exploratory Data Analysis.<br />
+ * J. H. Friedman and J. W. Tukey<br />
+ * IEEE Transactions on Computers, Vol C-23 No. 9<br />
+ * September 1974, p. 881-890</i></p>
+ * <p>Author:<br />
+ * Doug Reese<br />
+ * IFAS Statistics<br />
+ * 410 Rolfs Hall<br />
+ * University of Florida<br />
+ * Gainesville, FL 32611</p>
+ */
+public class ProjectionIndexFunction implements DifferentiableFunction, ConvergenceListener {
+  private static final Distance entropyDistance = new Distance() {
+    public double evaluate(double fhat, double phi) {
+      return (fhat < 1e-10 ? 0 : fhat * Math.log(fhat)) -
+             phi * Math.log(phi);
+    }
+  };
+  
+  private static final Distance l1Distance = new Distance() {
+    public double evaluate(double fhat, double phi) {
+      return Math.abs(fhat - phi);
+    }
+  };
+  
+  private static final Distance hellingersDistance = new Distance() {
+    public double evaluate(double fhat, double phi) {
+      double d = Math.sqrt(fhat) - Math.sqrt(phi);
+      return d * d;
+    }
+  };
+  
+  private static final Distance friedmansDistance = new DifferentiableDistance() {
+    public double evaluate(double fhat, double phi) {
+      double d = fhat - phi;
+      return d * d / 2 / phi;
+    }
+    
+    public double derivativeByFhat(double fhat, double phi) {
+      return (fhat - phi) / phi;
+    }
+    
+    public double derivativeByPhi(double fhat, double phi) {
+      double r = (fhat - phi) / phi;
+      return -r - r * r / 2;
+    }
+  };
+  
+  private static final Distance hallsDistance = new DifferentiableDistance() {
+    public double evaluate(double fhat, double phi) {
+      double d = fhat - phi;
+      return d * d;
+    }
+    
+    public double derivativeByFhat(double fhat, double phi) {
+      return 2 * (fhat - phi);
+    }
+    
+    public double derivativeByPhi(double fhat, double phi) {
+      return -2 * (fhat - phi);
+    }
+  };
+  
+  private static final Distance cooksDistance = new Distance() {
+    public double evaluate(double fhat, double phi) {
+      double d = fhat - phi;
+      return d * d * phi;
+    }
+  };
+  
+  private static final String[] projectionIndices = {
+    "Shape",
+    "Mixed",
+    "Entropy",
+    "L1",
+    "Hellinger's",
+    "Friedman's",
+    "Hall's",
+    "Cook's",
+    "Legendre"
+  };
+  
+  public static final int SHAPE_PROJECTION_INDEX = 0;
+  public static final int MIXED_PROJECTION_INDEX = 1;
+  public static final int FRIEDMANS_PROJECTION_INDEX = 5;
+  public static final int HALLS_PROJECTION_INDEX = 6;
+  /**
+   * Friedman's (1987) Legendre index: the standardized projections are
+   * mapped onto [-1, 1] by R = 2 Phi(Z) - 1, which is uniform if they are
+   * normal, and the index is the L2 distance of the density of R from the
+   * uniform density, expanded in the first {@link #legendreTermCount}
+   * Legendre polynomials. It needs only sums over the projections: no sort,
+   * bandwidth or grid.
+   */
+  public static final int LEGENDRE_PROJECTION_INDEX = 8;
+
+  public static String[] getProjectionIndexNames() {
+    return projectionIndices;
+  }
+  
+  private static final Distance[] distances = {
+    entropyDistance,
+    l1Distance,
+    hellingersDistance,
+    friedmansDistance,
+    hallsDistance,
+    cooksDistance
+  };
+  
+  private static final String[] densityEngines = {
+    "Exact",
+    "Binned"
+  };
+  
+  /**
+   * Sums the kernel over every projected value within four bandwidths of
+   * each grid point. Costs O(n * M) kernel evaluations.
+   */
+  public static final int EXACT_DENSITY_ENGINE = 0;
+  /**
+   * Linearly bins the projected values onto the grid and convolves the bin
+   * counts with a precomputed kernel stencil. The values are never sorted:
+   * the quartiles that determine the bandwidth are found by selection.
+   * Costs O(n + M * L), where L is the stencil width, which does not depend
+   * on the number of points.
+   * <p>For the Mixed index, fits the mixture to a histogram of the projected
+   * values instead of to the values themselves, so that each EM iteration
+   * costs O(bins); see {@link #binValues(double[], int, double[], double[], double[])}.</p>
+   */
+  public static final int BINNED_DENSITY_ENGINE = 1;
+  
+  public static String[] getDensityEngineNames() {
+    return densityEngines;
+  }
+  
+  private static final Kernel gaussianKernel = new Kernel() {
+    public double getBandwidthFactor() {
+      return 1.06;
+    }
+    
+    public double getRadius() {
+      return 4.0;
+    }
+    
+    public double evaluate(double z) {
+      return kernel(z);
+    }
+    
+    public double sum(double[] values, int from, int to, double centre, double bandwidth) {
+      return ArrayMath.sumOfGaussians(values, from, to, centre, bandwidth);
+    }
+    
+    public double evaluateReference(double x, double bandwidth) {
+      return kernel(x);
+    }
+  };
+  
+  private static final Kernel tabulatedGaussianKernel = new Kernel() {
+    public double getBandwidthFactor() {
+      return 1.06;
+    }
+    
+    public double getRadius() {
+      return GaussianKernelTable.radius;
+    }
+    
+    public double evaluate(double z) {
+      return GaussianKernelTable.evaluate(z);
+    }
+    
+    public double sum(double[] values, int from, int to, double centre, double bandwidth) {
+      return GaussianKernelTable.sum(values, from, to, centre, bandwidth);
+    }
+    
+    public double evaluateReference(double x, double bandwidth) {
+      return kernel(x);
+    }
+  };
+  
+  private static final Kernel epanechnikovKernel = new Kernel() {
+    public double getBandwidthFactor() {
+      return 2.34;
+    }
+    
+    public double getRadius() {
+      return 1.0;
+    }
+    
+    public double evaluate(double z) {
+      return z * z < 1.0 ? 0.75 * (1.0 - z * z) : 0.0;
+    }
+    
+    public double sum(double[] values, int from, int to, double centre, double bandwidth) {
+      double sum = 0.0;
+      for (int i = from; i < to; i++) {
+        double z = (centre - values[i]) / bandwidth;
+        if (z * z < 1.0)
+          sum += 1.0 - z * z;
+      }
+      return 0.75 * sum;
+    }
+    
+    public double evaluateReference(double x, double bandwidth) {
+      return smoothNormal(this, x, bandwidth);
+    }
+  };
+  
+  private static final Kernel biweightKernel = new Kernel() {
+    public double getBandwidthFactor() {
+      return 2.78;
+    }
+    
+    public double getRadius() {
+      return 1.0;
+    }
+    
+    public double evaluate(double z) {
+      double u = 1.0 - z * z;
+      return u > 0.0 ? 0.9375 * u * u : 0.0;
+    }
+    
+    public double sum(double[] values, int from, int to, double centre, double bandwidth) {
+      double sum = 0.0;
+      for (int i = from; i < to; i++) {
+        double z = (centre - values[i]) / bandwidth;
+        double u = 1.0 - z * z;
+        if (u > 0.0)
+          sum += u * u;
+      }
+      return 0.9375 * sum;
+    }
+    
+    public double evaluateReference(double x, double bandwidth) {
+      return smoothNormal(this, x, bandwidth);
+    }
+  };
+  
+  private static final String[] kernelNames = {
+    "Gaussian",
+    "Gaussian (tabulated)",
+    "Epanechnikov",
+    "Biweight"
+  };
+  
+  private static final Kernel[] kernels = {
+    gaussianKernel,
+    tabulatedGaussianKernel,
+    epanechnikovKernel,
+    biweightKernel
+  };
+  
+  /**
+   * The standard normal density, computed with <code>Math.exp</code>.
+   */
+  public static final int GAUSSIAN_KERNEL = 0;
+  /**
+   * The standard normal density, interpolated in a table; within 4.8e-8 of
+   * the exact density. See {@link GaussianKernelTable}.
+   */
+  public static final int TABULATED_GAUSSIAN_KERNEL = 1;
+  /**
+   * 3/4 (1 - z^2) on [-1, 1]. Each term is a few multiplications, and only
+   * the points within one bandwidth of a grid point contribute.
+   */
+  public static final int EPANECHNIKOV_KERNEL = 2;
+  /**
+   * 15/16 (1 - z^2)^2 on [-1, 1]: as cheap as the Epanechnikov kernel, but
+   * smooth at the edges of its support.
+   */
+  public static final int BIWEIGHT_KERNEL = 3;
+  
+  public static String[] getKernelNames() {
+    return kernelNames;
+  }
+  
+  /**
+   * The nodes and weights of the 10-point Gauss-Legendre rule on [-1, 1],
+   * by which the compact kernels smooth the reference density.
+   */
+  private static final double[] legendreNodes = {
+    0.1488743389816312, 0.4333953941292472, 0.6794095682990244,
+    0.8650633666889845, 0.9739065285171717
+  };
+  private static final double[] legendreWeights = {
+    0.2955242247147529, 0.2692667193099963, 0.2190863625159820,
+    0.1494513491505806, 0.0666713443086881
+  };
+  
+  /**
+   * Returns the standard normal density smoothed by <code>kernel</code> at
+   * <code>bandwidth</code>, at <code>x</code>: the integral of K(u)
+   * phi(x - bandwidth u) over the kernel's support [-1, 1]. The integrand is
+   * a polynomial times a smooth function there, so the Gauss-Legendre rule
+   * is accurate to well within the error of the grid.
+   */
+  private static double smoothNormal(Kernel kernel, double x, double bandwidth) {
+    double sum = 0.0;
+    for (int k = 0; k < legendreNodes.length; k++) {
+      double u = legendreNodes[k];
+      sum += legendreWeights[k] * kernel.evaluate(u) *
+             (kernel(x - bandwidth * u) + kernel(x + bandwidth * u));
+    }
+    return sum;
+  }
+  
+  /**
+   * The default number of grid intervals on either side of 0 on which the
+   * density-based indices estimate the density.
+   */
+  public static final int defaultGridResolution = 100;
+  /**
+   * The convergence measures below which the adaptive grid is refined from a
+   * quarter to half, and from half to the full resolution.
+   */
+  private static final double[] gridRefinementThresholds = {1e-2, 1e-3};
+  
+  /**
+   * The number of histogram bins that the Mixed index fits its mixture to
+   * when the binned density engine is selected.
+   */
+  private static final int mixtureBinCount = 512;
+  
+  /**
+   * The number of points projected at a time by the Shape index, which
+   * never holds the projections of all points at once.
+   */
+  private static final int shapeChunkSize = 8192;
+  
+  /**
+   * The number of points from which an evaluation is divided among the
+   * threads of the common fork-join pool, when the parallel mode is on.
+   */
+  public static final int parallelThreshold = 1 << 17;
+  /**
+   * The number of points each task projects or bins in the parallel mode.
+   * The work is divided the same way whatever the number of threads, so that
+   * the results do not depend on it.
+   */
+  private static final int parallelChunkSize = 1 << 15;
+  /**
+   * The number of grid points for which each task estimates the density in
+   * the parallel mode.
+   */
+  private static final int parallelGridBlockSize = 8;
+  
+  /**
+   * The largest number of axes that {@link #evaluate(double[][], double[])}
+   * projects the points onto in one pass.
+   */
+  private static final int maxBlockAxes = 8;
+  /**
+   * The largest number of projected values that
+   * {@link #evaluate(double[][], double[])} keeps in memory at once.
+   */
+  private static final int blockBufferCapacity = 1 << 24;
+  /**
+   * The number of times a cached projection onto the columns of a
+   * {@link ColumnSetOfPoints} is updated in place before it is recomputed
+   * from scratch, which bounds the accumulated rounding error.
+   */
+  private static final int maxProjectionUpdates = 64;
+  /**
+   * The number of Legendre polynomials in the expansion of the Legendre
+   * index, as recommended by Friedman (1987).
+   */
+  private static final int legendreTermCount = 6;
+  
+  /**
+   * The buffers used by one evaluation at a time, so that evaluating the
+   * function in a steady state allocates nothing. It holds no reference to
+   * the function, only the sizes of its points.
+   */
+  private static final class Workspace {
+    final int dimensionCount;
+    final int pointCount;
+    final double[] axis;
+    double[] values = new double[0];
+    double[] fhat = new double[0];
+    double[] Phi = new double[0];
+    double[] integrand = new double[0];
+    double[] counts = new double[0];
+    double[] stencil = new double[0];
+    /**
+     * The counts of each chunk of points, and the power sums of each chunk,
+     * in the parallel mode; they are added up in chunk order. The Shape
+     * index projects each chunk into a buffer of its own.
+     */
+    double[][] chunkCounts = new double[0][];
+    double[][] chunkSums = new double[0][];
+    double[][] chunks = new double[0][];
+    final double[] momentSums = new double[4];
+    final double[] legendreSums = new double[legendreTermCount + 1];
+    final double[] chunk = new double[shapeChunkSize];
+    
+    double[] standardized = new double[0];
+    double[] pointGradient = new double[0];
+    double[] F = new double[0];
+    double[] S1 = new double[0];
+    double[] S2 = new double[0];
+    final double[] axisGradient;
+    double[][] blockAxes = new double[0][];
+    double[][] blockValues = new double[0][];
+    int[] blockIndices = new int[0];
+    /**
+     * The projection of the points onto <code>projectionAxis</code>, kept
+     * between evaluations when the points are a {@link ColumnSetOfPoints}.
+     */
+    double[] projection = new double[0];
+    final double[] projectionAxis;
+    int projectionUpdates;
+    
+    /**
+     * Fits the mixture for the Mixed index. It is kept between evaluations so
+     * that its buffers are reused, and, under the warm start, so that each
+     * fit can start from the previous one.
+     */
+    MixtureEstimator mixtureEstimator;
+    
+    final double[] mixtureCentres = new double[mixtureBinCount];
+    final double[] mixtureWeights = new double[mixtureBinCount];
+    final double[] mixtureSpreads = new double[mixtureBinCount];
+    
+    Workspace(int dimensionCount, int pointCount) {
+      this.dimensionCount = dimensionCount;
+      this.pointCount = pointCount;
+      axis = new double[dimensionCount];
+      axisGradient = new double[dimensionCount];
+      projectionAxis = new double[dimensionCount];
+    }
+    
+    MixtureEstimator getMixtureEstimator() {
+      if (mixtureEstimator == null)
+        mixtureEstimator = new MixtureEstimator(2, 4);
+      return mixtureEstimator;
+    }
+    
+    /**
+     * Sizes the grid buffers for <code>M</code> grid points.
+     */
+    void ensureGrid(int M) {
+      if (fhat.length != M) {
+        fhat = new double[M];
+        Phi = new double[M];
+        integrand = new double[M];
+        counts = new double[M];
+        stencil = new double[M];
+        F = new double[M];
+        S1 = new double[M];
+        S2 = new double[M];
+      }
+    }
+    
+    double[] getValues() {
+      if (values.length != pointCount)
+        values = new double[pointCount];
+      return values;
+    }
+    
+    void ensureGradientBuffers() {
+      if (standardized.length != pointCount) {
+        standardized = new double[pointCount];
+        pointGradient = new double[pointCount];
+      }
+    }
+    
+    double[][] getBlockAxes(int blockSize) {
+      if (blockAxes.length != blockSize)
+        blockAxes = new double[blockSize][dimensionCount];
+      return blockAxes;
+    }
+    
+    double[][] getBlockValues(int blockSize) {
+      if (blockValues.length != blockSize || blockValues[0].length != pointCount)
+        blockValues = new double[blockSize][pointCount];
+      return blockValues;
+    }
+    
+    double[][] getChunkCounts(int chunkCount, int M) {
+      if (chunkCounts.length != chunkCount || chunkCounts[0].length != M)
+        chunkCounts = new double[chunkCount][M];
+      return chunkCounts;
+    }
+    
+    double[][] getChunkSums(int chunkCount) {
+      if (chunkSums.length != chunkCount)
+        chunkSums = new double[chunkCount][4];
+      return chunkSums;
+    }
+    
+    double[][] getChunks(int chunkCount) {
+      if (chunks.length != chunkCount)
+        chunks = new double[chunkCount][shapeChunkSize];
+      return chunks;
+    }
+    
+    int[] getBlockIndices(int blockSize) {
+      if (blockIndices.length != blockSize)
+        blockIndices = new int[blockSize];
+      return blockIndices;
+    }
+    
+    /**
+     * Projects the points onto <code>axis</code> by updating the projection
+     * of the previous evaluation, one column per axis coordinate that
+     * changed. When a single argument changes, only it and the last axis
+     * coordinate do, so the update costs two passes over a column instead
+     * of a pass over every column. Falls back to a full projection when
+     * more than half of the coordinates changed.
+     */
+    void project(ColumnSetOfPoints columns, double[] axis, double[] values) {
+      final int n = columns.getPointCount();
+      if (projection.length != n) {
+        projection = new double[n];
+        projectionUpdates = maxProjectionUpdates;
+      }
+      
+      int changed = 0;
+      for (int i = 0; i < axis.length; i++)
+        if (axis[i] != projectionAxis[i])
+          changed++;
+      
+      if (projectionUpdates < maxProjectionUpdates && 2 * changed <= axis.length) {
+        for (int i = 0; i < axis.length; i++) {
+          if (axis[i] != projectionAxis[i]) {
+            columns.addColumn(i, axis[i] - projectionAxis[i], projection);
+            projectionAxis[i] = axis[i];
+          }
+        }
+        projectionUpdates++;
+      } else {
+        columns.projectOnto(axis, projection);
+        System.arraycopy(axis, 0, projectionAxis, 0, axis.length);
+        projectionUpdates = 0;
+      }
+      System.arraycopy(projection, 0, values, 0, n);
+    }
+  }
+  
+  private int projectionIndex;
+  private SetOfPoints points;
+  private int densityEngine;
+  private int kernel = GAUSSIAN_KERNEL;
+  private double pointWeight = 1.0;
+  private int gridResolution = defaultGridResolution;
+  private boolean adaptiveGrid;
+  private boolean parallel;
+  private boolean mixtureWarmStart;
+  /**
+   * The number of times the grid resolution is halved, under the adaptive
+   * grid; decreases as the optimizer converges.
+   */
+  private volatile int gridCoarsening;
+  /**
+   * The workspaces not in use by an evaluation. Each evaluation takes one,
+   * or creates one if there is none, and gives it back when it is done, so
+   * there are only as many as there were concurrent evaluations. They
+   * belong to the function, not to the threads that evaluated it, and are
+   * freed with it.
+   */
+  private final ArrayDeque<Workspace> idleWorkspaces = new ArrayDeque<>();
+  
+  public ProjectionIndexFunction(int projectionIndex, SetOfPoints points) {
+    this(projectionIndex, points, EXACT_DENSITY_ENGINE);
+  }
+  
+  public ProjectionIndexFunction(int projectionIndex, SetOfPoints points, int densityEngine) {
+    this.projectionIndex = projectionIndex;
+    this.points = points;
+    this.densityEngine = densityEngine;
+  }
+  
+  public int getDensityEngine() {
+    return densityEngine;
+  }
+  
+  public void setDensityEngine(int densityEngine) {
+    this.densityEngine = densityEngine;
+  }
+  
+  public int getKernel() {
+    return kernel;
+  }
+  
+  /**
+   * Sets the kernel that the density-based indices smooth the projected
+   * values with. The bandwidth follows the normal reference rule for the
+   * kernel: 1.06, 2.34 or 2.78 times min(1, IQR / 1.34) n^-1/5 for the
+   * Gaussian, Epanechnikov and biweight kernels respectively, so that each
+   * smooths to the same degree.
+   * <p>The density is compared with the density that the kernel's estimate
+   * would have if the projections were standard normal. For the Gaussian
+   * kernels, this is taken to be the standard normal density itself, as in
+   * the original indices; for the compact kernels, it is the standard normal
+   * density smoothed by the kernel at the bandwidth, so that an estimate
+   * that is flattened at its peak and cut off beyond its support, as theirs
+   * are, is not mistaken for structure.</p>
+   * <p>The closed-form gradient is only available with the exact Gaussian
+   * kernel; see {@link #isDifferentiable()}.</p>
+   * @param kernel See {@link #getKernelNames()}.
+   */
+  public void setKernel(int kernel) {
+    this.kernel = kernel;
+  }
+  
+  public double getPointWeight() {
+    return pointWeight;
+  }
+  
+  /**
+   * Lets each point stand for <code>pointWeight</code> points, for when the
+   * points are a sample from a larger set: the density estimate, and the
+   * log-likelihood term of the AIC of the Mixed index, are scaled so that
+   * the index is on about the scale of the larger set's. The AIC's penalty
+   * on the number of parameters is not scaled. The Shape and Legendre indices do not depend
+   * on the number of points.
+   */
+  public void setPointWeight(double pointWeight) {
+    this.pointWeight = pointWeight;
+  }
+  
+  public int getGridResolution() {
+    return gridResolution;
+  }
+  
+  /**
+   * Sets the number of grid intervals on either side of 0 on which the
+   * density-based indices estimate the density; the grid spans the
+   * standardized projections, so it has <code>2 * gridResolution + 1</code>
+   * points. Each density-based evaluation costs O(gridResolution) besides
+   * the pass over the points.
+   */
+  public void setGridResolution(int gridResolution) {
+    this.gridResolution = gridResolution;
+  }
+  
+  public boolean isAdaptiveGrid() {
+    return adaptiveGrid;
+  }
+  
+  /**
+   * Lets the grid follow the optimizer's progress, as reported through
+   * {@link #convergenceChanged(double)}: a quarter of the resolution until
+   * the convergence measure first falls below 0.01, half of it until it
+   * falls below 0.001, and the full resolution from then on, so that the
+   * optimizer's final steps, which decide the axis, see the full resolution.
+   */
+  public void setAdaptiveGrid(boolean adaptiveGrid) {
+    this.adaptiveGrid = adaptiveGrid;
+    gridCoarsening = adaptiveGrid ? gridRefinementThresholds.length : 0;
+  }
+  
+  public boolean isMixtureWarmStart() {
+    return mixtureWarmStart;
+  }
+  
+  /**
+   * Lets each fit of the Mixed index start one of its restarts from the
+   * mixture fitted in the previous evaluation (by the same workspace, when
+   * evaluations overlap); see
+   * {@link MixtureEstimator#setWarmStart(boolean)}. Off by default: the
+   * index then depends on the axes evaluated before, so an axis evaluated
+   * twice may score differently, which misleads the evaluation cache and
+   * the optimizers' comparisons.
+   */
+  public void setMixtureWarmStart(boolean mixtureWarmStart) {
+    this.mixtureWarmStart = mixtureWarmStart;
+  }
+  
+  public boolean isParallel() {
+    return parallel;
+  }
+  
+  /**
+   * Lets single evaluations on at least {@link #parallelThreshold} points
+   * use the threads of the common fork-join pool: the points are projected
+   * (and, for the Shape index, their power sums accumulated) a chunk per
+   * task, the exact engine sorts them with a parallel sort and estimates the
+   * density a block of grid points per task, and the binned engine bins a
+   * chunk per task. The results are the same as those of the sequential
+   * mode, up to the order in which the partial sums are added. The Mixed
+   * index fits its restarts in parallel only in this mode; see
+   * {@link MixtureEstimator#setParallel(boolean)}. The gradient and the
+   * batch evaluation remain sequential.
+   * <p>Leave this off for functions evaluated on the threads of a
+   * {@link ParallelFunctionWrapper}, which already keeps the processors
+   * busy.</p>
+   */
+  public void setParallel(boolean parallel) {
+    this.parallel = parallel;
+  }
+  
+  private boolean isParallel(int n) {
+    return parallel && n >= parallelThreshold;
+  }
+  
+  private static int getChunkCount(int n, int chunkSize) {
+    return (n + chunkSize - 1) / chunkSize;
+  }
+  
+  /**
+   * Refines the adaptive grid once the convergence measure falls below the
+   * next threshold. The grid is never coarsened again.
+   * @return <code>true</code> if the grid was refined.
+   */
+  public boolean convergenceChanged(double convergence) {
+    if (!adaptiveGrid)
+      return false;
+    int coarsening = gridRefinementThresholds.length;
+    while (coarsening > 0 &&
+           convergence <= gridRefinementThresholds[gridRefinementThresholds.length - coarsening])
+      coarsening--;
+    if (coarsening >= gridCoarsening)
+      return false;
+    gridCoarsening = coarsening;
+    return true;
+  }
+  
+  /**
+   * Returns the number of grid intervals on either side of 0 for the next
+   * evaluation.
+   */
+  private int getCurrentGridResolution() {
+    return Math.max(1, gridResolution >> gridCoarsening);
+  }
+  
+  public int getArgumentCount() {
+    return points.getDimensionCount() - 1;
+  }
+  
+  private Workspace acquireWorkspace() {
+    synchronized (idleWorkspaces) {
+      Workspace workspace = idleWorkspaces.pollFirst();
+      if (workspace != null)
+        return workspace;
+    }
+    return new Workspace(points.getDimensionCount(), points.getPointCount());
+  }
+  
+  private void releaseWorkspace(Workspace workspace) {
+    synchronized (idleWorkspaces) {
+      idleWorkspaces.addFirst(workspace);
+    }
+  }
+  
+  public double evaluate(double[] arguments) {
+    final Workspace workspace = acquireWorkspace();
+    try {
+      return evaluate(arguments, workspace);
+    } finally {
+      releaseWorkspace(workspace);
+    }
+  }
+  
+  private double evaluate(double[] arguments, Workspace workspace) {
+    final double[] axis = workspace.axis;
+    if (!computeAxis(arguments, axis))
+      return -3.4e38;
+    
+    if (projectionIndex == SHAPE_PROJECTION_INDEX)
+      return computeShapeIndex(axis, workspace);
+    
+    // Project each data point onto the axis, giving a list of values.
+    
+    final double[] values = workspace.getValues();
+    project(axis, values, workspace);
+    
+    return computeIndex(axis, values, workspace);
+  }
+  
+  /**
+   * Projects the points onto <code>axis</code>, a chunk of points per task
+   * in the parallel mode.
+   */
+  private void project(final double[] axis, final double[] values, Workspace workspace) {
+    final int n = values.length;
+    if (points instanceof ColumnSetOfPoints)
+      workspace.project((ColumnSetOfPoints) points, axis, values);
+    else if (isParallel(n))
+      IntStream.range(0, getChunkCount(n, parallelChunkSize)).parallel().forEach(c -> {
+        int from = c * parallelChunkSize;
+        points.projectOnto(axis, from, Math.min(n, from + parallelChunkSize), values, from);
+      });
+    else
+      Projector.project(points, axis, values);
+  }
+  
+  /**
+   * The gradient is available in closed form for the indices whose distance
+   * is a smooth function of fhat and phi: Friedman's and Hall's. It models
+   * the exact density engine with the exact Gaussian kernel only; under any
+   * other engine or kernel, the gradient would be that of a different
+   * function than the one evaluated, so the optimizers fall back to finite
+   * differences.
+   */
+  public boolean isDifferentiable() {
+    return projectionIndex >= 2 && projectionIndex < LEGENDRE_PROJECTION_INDEX &&
+           distances[projectionIndex - 2] instanceof DifferentiableDistance &&
+           densityEngine == EXACT_DENSITY_ENGINE && kernel == GAUSSIAN_KERNEL;
+  }
+  
+  /**
+   * Computes the index with the exact density engine, together with its
+   * derivatives with respect to the arguments.
+   * <p>The index is the trapezoid sum of D(fhat(x_j), phi(x_j)) over the
+   * grid. It depends on the standardized projections z_i directly through
+   * fhat, and indirectly through the grid extent (the largest |z_i|) and the
+   * bandwidth (through the interquartile range). All three paths are
+   * differentiated, as is the standardization itself; the truncation of the
+   * kernel at its radius is treated as fixed. The derivatives with
+   * respect to the axis are then mapped to the arguments, taking into
+   * account that the last axis coordinate depends on the others.</p>
+   * <p>Costs about two evaluations: one pass over the points for the
+   * projection and one for the chain rule back to the axis.</p>
+   */
+  public double evaluateWithGradient(double[] arguments, double[] gradient) {
+    if (!isDifferentiable())
+      throw new UnsupportedOperationException("The " + projectionIndices[projectionIndex] +
+                                              " index has no closed-form gradient.");
+    
+    final Workspace workspace = acquireWorkspace();
+    try {
+      return evaluateWithGradient(arguments, gradient, workspace);
+    } finally {
+      releaseWorkspace(workspace);
+    }
+  }
+  
+  private double evaluateWithGradient(double[] arguments, double[] gradient, Workspace workspace) {
+    final double[] axis = workspace.axis;
+    if (!computeAxis(arguments, axis)) {
+      Arrays.fill(gradient, 0.0);
+      return -3.4e38;
+    }
+    
+    workspace.ensureGradientBuffers();
+    final double[] values = workspace.getValues();
+    final double[] z = workspace.standardized;
+    final double[] G = workspace.pointGradient;
+    final int n = values.length;
+    Projector.project(points, axis, values);
+    
+    final double mean;
+    final double standardDeviation;
+    {
+      double sum = 0.0;
+      double sumsq = 0.0;
+      for (int i = 0; i < n; i++) {
+        sum += values[i];
+        sumsq += values[i] * values[i];
+      }
+      mean = sum / n;
+      standardDeviation = Math.sqrt(sumsq / n - mean * mean);
+    }
+    for (int i = 0; i < n; i++) {
+      z[i] = (values[i] - mean) / standardDeviation;
+      values[i] = z[i];
+    }
+    Sorter.quickSort(values);
+    
+    final double lowerQuantile = values[n / 4];
+    final double upperQuantile = values[n * 3 / 4];
+    final double bandwidthFactor = gaussianKernel.getBandwidthFactor() * Math.pow(n, -1d/5);
+    final double radius = gaussianKernel.getRadius();
+    final boolean quantilesMatter = (upperQuantile - lowerQuantile) / 1.34 < 1.0;
+    final double h = bandwidthFactor * Math.min(1.0, (upperQuantile - lowerQuantile) / 1.34);
+    final double extreme = Math.abs(values[0]) >= Math.abs(values[n - 1]) ? values[0] : values[n - 1];
+    final double xl = Math.abs(extreme);
+    final int m = getCurrentGridResolution();
+    final int M = 2 * m + 1;
+    workspace.ensureGrid(M);
+    final double step = xl / m;
+    final double x0 = -xl - step / 2;
+    
+    // Accumulate fhat and the two kernel moments needed for the derivatives
+    // with respect to the grid extent and the bandwidth.
+    
+    final double[] F = workspace.F;
+    final double[] S1 = workspace.S1;
+    final double[] S2 = workspace.S2;
+    {
+      double x = x0;
+      int i0 = 0;
+      for (int j = 0; j < M; j++) {
+        while (i0 < n && values[i0] < x - radius * h)
+          i0++;
+        double sum = 0.0;
+        double sum1 = 0.0;
+        double sum2 = 0.0;
+        for (int i = i0; i < n && values[i] <= x + radius * h; i++) {
+          double u = (x - values[i]) / h;
+          double k = kernel(u);
+          sum += k;
+          sum1 += u * k;
+          sum2 += u * u * k;
+        }
+        F[j] = pointWeight * sum / h;
+        S1[j] = pointWeight * sum1;
+        S2[j] = pointWeight * sum2;
+        x += step;
+      }
+    }
+    
+    final DifferentiableDistance distance = (DifferentiableDistance) distances[projectionIndex - 2];
+    final double[] DF = workspace.integrand;
+    double integral = 0.0;
+    double byExtent = 0.0;
+    double byBandwidth = 0.0;
+    {
+      double x = x0;
+      for (int j = 0; j < M; j++) {
+        double w = j == 0 || j == M - 1 ? 0.5 : 1.0;
+        double phi = kernel(x);
+        double d = distance.evaluate(F[j], phi);
+        double dF = distance.derivativeByFhat(F[j], phi);
+        double dPhi = distance.derivativeByPhi(F[j], phi);
+        integral += w * d;
+        byExtent += w * (d - x * (dF * S1[j] / (h * h) + dPhi * x * phi));
+        byBandwidth += w * dF * (S2[j] / (h * h) - F[j] / h);
+        DF[j] = w * dF * pointWeight;
+        x += step;
+      }
+      integral *= step;
+      byExtent *= step / xl;
+      byBandwidth *= step;
+    }
+    
+    // Derivative with respect to each standardized value.
+    
+    int lowerIndex = -1;
+    int upperIndex = -1;
+    int extremeIndex = -1;
+    for (int i = 0; i < n; i++) {
+      double zi = z[i];
+      int jmin = Math.max(0, (int) Math.ceil((zi - radius * h - x0) / step));
+      int jmax = Math.min(M - 1, (int) Math.floor((zi + radius * h - x0) / step));
+      double sum = 0.0;
+      for (int j = jmin; j <= jmax; j++) {
+        double u = (x0 + j * step - zi) / h;
+        sum += DF[j] * u * kernel(u);
+      }
+      G[i] = sum * step / (h * h);
+      if (lowerIndex < 0 && zi == lowerQuantile)
+        lowerIndex = i;
+      if (upperIndex < 0 && zi == upperQuantile)
+        upperIndex = i;
+      if (extremeIndex < 0 && zi == extreme)
+        extremeIndex = i;
+    }
+    G[extremeIndex] += byExtent * Math.signum(extreme);
+    if (quantilesMatter) {
+      G[upperIndex] += byBandwidth * bandwidthFactor / 1.34;
+      G[lowerIndex] -= byBandwidth * bandwidthFactor / 1.34;
+    }
+    
+    // Chain rule through the standardization z = (y - mean) / sd, and then
+    // through the projection y = axis . p.
+    
+    double meanG = 0.0;
+    double meanGz = 0.0;
+    for (int i = 0; i < n; i++) {
+      meanG += G[i];
+      meanGz += G[i] * z[i];
+    }
+    meanG /= n;
+    meanGz /= n;
+    for (int i = 0; i < n; i++)
+      G[i] = (G[i] - meanG - z[i] * meanGz) / standardDeviation;
+    
+    final int ndims = axis.length;
+    final double[] axisGradient = workspace.axisGradient;
+    Arrays.fill(axisGradient, 0.0);
+    PointIterator iterator = points.createIterator();
+    for (int i = 0; i < n; i++) {
+      iterator.next();
+      double g = G[i];
+      for (int l = 0; l < ndims; l++)
+        axisGradient[l] += g * iterator.getCoordinate(l);
+    }
+    
+    final double last = axis[ndims - 1];
+    for (int l = 0; l < arguments.length; l++)
+      gradient[l] = axisGradient[l] - (last > 0.0 ? axis[l] / last * axisGradient[ndims - 1] : 0.0);
+    
+    return integral;
+  }
+  
+  /**
+   * Evaluates the function at each argument list in <code>arguments</code>.
+   * The points are projected onto a block of axes at a time in a single
+   * pass, so that each point is read from memory once per block rather than
+   * once per axis.
+   * <p>Points stored in a {@link ColumnSetOfPoints} are instead evaluated
+   * one argument list at a time, so that each projection is an update of the
+   * previous one: batches such as finite-difference probes differ from each
+   * other in only a few coordinates. So is the Shape index, which streams
+   * over the points rather than storing their projections.</p>
+   */
+  public void evaluate(double[][] arguments, double[] results) {
+    if (points instanceof ColumnSetOfPoints || projectionIndex == SHAPE_PROJECTION_INDEX) {
+      for (int k = 0; k < arguments.length; k++)
+        results[k] = evaluate(arguments[k]);
+      return;
+    }
+    
+    final Workspace workspace = acquireWorkspace();
+    try {
+      evaluate(arguments, results, workspace);
+    } finally {
+      releaseWorkspace(workspace);
+    }
+  }
+  
+  private void evaluate(double[][] arguments, double[] results, Workspace workspace) {
+    final int blockSize = getBlockSize();
+    final double[][] blockAxes = workspace.getBlockAxes(blockSize);
+    final double[][] blockValues = workspace.getBlockValues(blockSize);
+    final int[] blockIndices = workspace.getBlockIndices(blockSize);
+    
+    int count = 0;
+    for (int k = 0; k < arguments.length; k++) {
+      if (computeAxis(arguments[k], blockAxes[count]))
+        blockIndices[count++] = k;
+      else
+        results[k] = -3.4e38;
+      
+      if (count == blockSize || (count > 0 && k == arguments.length - 1)) {
+        Projector.project(points, blockAxes, count, blockValues);
+        for (int b = 0; b < count; b++)
+          results[blockIndices[b]] = computeIndex(blockAxes[b], blockValues[b], workspace);
+        count = 0;
+      }
+    }
+  }
+  
+  /**
+   * Computes several projection indices of the points projected onto
+   * <code>axis</code>, projecting, standardizing and, for the density-based
+   * indices, estimating the density only once. Each density-based index
+   * then costs one pass over the grid. The density engine and kernel are
+   * those of this function; its own projection index is ignored.
+   * @param axis A unit vector, of which either sign may be given.
+   * @param projectionIndices See {@link #getProjectionIndexNames()}.
+   * @param results Receives the value of each index in
+   *                <code>projectionIndices</code>.
+   */
+  public void evaluateAxis(double[] axis, int[] projectionIndices, double[] results) {
+    final Workspace workspace = acquireWorkspace();
+    try {
+      evaluateAxis(axis, projectionIndices, results, workspace);
+    } finally {
+      releaseWorkspace(workspace);
+    }
+  }
+  
+  private void evaluateAxis(double[] axis, int[] projectionIndices, double[] results,
+                            Workspace workspace) {
+    final double[] values = workspace.getValues();
+    project(axis, values, workspace);
+    
+    final double variance = standardize(axis, values, workspace);
+    
+    // The density engine may reorder the values, which the other indices do
+    // not mind; but compute those first, so that they see the values in the
+    // order a single evaluation would.
+    for (int k = 0; k < projectionIndices.length; k++)
+      if (!usesDensity(projectionIndices[k]))
+        results[k] = computeIndexWithoutDensity(projectionIndices[k], values, variance, workspace);
+    
+    double step = Double.NaN;
+    for (int k = 0; k < projectionIndices.length; k++) {
+      if (usesDensity(projectionIndices[k])) {
+        if (Double.isNaN(step))
+          step = computeDensity(values, workspace);
+        results[k] = computeDistanceIndex(distances[projectionIndices[k] - 2], step, workspace);
+      }
+    }
+  }
+  
+  /**
+   * Returns the number of axes projected per pass by
+   * {@link #evaluate(double[][], double[])}: at most {@link #maxBlockAxes},
+   * and no more than fit {@link #blockBufferCapacity} projected values.
+   */
+  private int getBlockSize() {
+    int n = Math.max(1, points.getPointCount());
+    return Math.max(1, Math.min(maxBlockAxes, blockBufferCapacity / n));
+  }
+  
+  /**
+   * Constrains the axis to be a unit vector: the arguments are its first
+   * coordinates, and its last coordinate is the non-negative value that
+   * gives it unit length.
+   * @return <code>false</code> if the arguments lie outside the unit ball.
+   */
+  private static boolean computeAxis(double[] arguments, double[] axis) {
+    double sumOfSquares = 0.0;
+    for (int i = 0; i < arguments.length; i++) {
+      double argument = arguments[i];
+      sumOfSquares += argument * argument;
+    }
+    if (sumOfSquares > 1.0)
+      return false;
+    
+    for (int i = 0; i < arguments.length; i++)
+      axis[i] = arguments[i];
+    axis[arguments.length] = Math.sqrt(1.0 - sumOfSquares);
+    return true;
+  }
+  
+  /**
+   * Computes the projection index from the values of the points projected
+   * onto <code>axis</code>. Overwrites <code>values</code>.
+   */
+  private double computeIndex(double[] axis, double[] values, Workspace workspace) {
+    final double variance = standardize(axis, values, workspace);
+    
+    if (usesDensity(projectionIndex)) {
+      final double step = computeDensity(values, workspace);
+      return computeDistanceIndex(distances[projectionIndex - 2], step, workspace);
+    } else
+      return computeIndexWithoutDensity(projectionIndex, values, variance, workspace);
+  }
+  
+  /**
+   * Returns whether the index compares a kernel estimate of the density of
+   * the projections with the normal density, using one of the
+   * <code>distances</code>.
+   */
+  public static boolean usesDensity(int projectionIndex) {
+    return projectionIndex >= 2 && projectionIndex < LEGENDRE_PROJECTION_INDEX;
+  }
+  
+  /**
+   * Standardizes <code>values</code>, the projections onto
+   * <code>axis</code>, in place to mean 0 and variance 1. If the points keep
+   * their own {@link PointStatistics}, the mean and variance are taken from
+   * those, and the values are only passed over once.
+   * @return The variance of the values before standardization.
+   */
+  private double standardize(double[] axis, final double[] values, Workspace workspace) {
+    final double mean;
+    final double variance;
+    final double standardDeviation;
+    if (points instanceof PointStatistics) {
+      final PointStatistics statistics = (PointStatistics) points;
+      double sum = 0.0;
+      double quadraticForm = 0.0;
+      for (int j = 0; j < axis.length; j++) {
+        sum += axis[j] * statistics.getMean(j);
+        double crossTerms = 0.0;
+        for (int k = 0; k < j; k++)
+          crossTerms += axis[k] * statistics.getCovariance(j, k);
+        quadraticForm += axis[j] * (axis[j] * statistics.getCovariance(j, j) + 2 * crossTerms);
+      }
+      mean = sum;
+      variance = quadraticForm;
+      standardDeviation = Math.sqrt(variance);
+    } else {
+      final double[] sums = workspace.momentSums;
+      ArrayMath.powerSums(values, 0, values.length, sums);
+      mean = sums[0] / values.length;
+      variance = sums[1] / values.length - mean * mean;
+      standardDeviation = Math.sqrt(variance);
+    }
+    
+		// if (projectionIndex != MIXED_PROJECTION_INDEX)
+		final int n = values.length;
+		if (isParallel(n))
+		  IntStream.range(0, getChunkCount(n, parallelChunkSize)).parallel().forEach(c -> {
+		    int to = Math.min(n, (c + 1) * parallelChunkSize);
+		    for (int i = c * parallelChunkSize; i < to; i++)
+		      values[i] = (values[i] - mean) / standardDeviation;
+		  });
+		else
+		  for (int i = 0; i < n; i++)
+		    values[i] = (values[i] - mean) / standardDeviation;
+    
+    return variance;
+  }
+  
+  /**
+   * Computes one of the indices that do not estimate the density (Shape,
+   * Mixed and Legendre) from the standardized projections. Does not
+   * modify <code>values</code>.
+   * @param variance The variance of the projections before standardization.
+   */
+  private double computeIndexWithoutDensity(int projectionIndex, double[] values, double variance,
+                                            Workspace workspace) {
+    if (projectionIndex == 0) {    // "Shape"
+      final int n = values.length;
+      
+      final double[] sums = workspace.momentSums;
+      ArrayMath.powerSums(values, 0, n, sums);
+      return computeShapeIndex(n, variance, sums[2], sums[3]);
+		} else if (projectionIndex == 1) { // Mixed
+			MixtureEstimator estimator = workspace.getMixtureEstimator();
+			estimator.setWarmStart(mixtureWarmStart);
+			estimator.setParallel(parallel);
+			if (densityEngine == BINNED_DENSITY_ENGINE) {
+				int binCount = binValues(values, mixtureBinCount,
+				                         workspace.mixtureCentres, workspace.mixtureWeights, workspace.mixtureSpreads);
+				estimator.fit(workspace.mixtureCentres, workspace.mixtureWeights, workspace.mixtureSpreads, binCount);
+			} else
+				estimator.fit(values, values.length);
+			return 2 * pointWeight * estimator.getLogLikelihood() - 2 * estimator.getParameterCount();
+    } else
+      return computeLegendreIndex(values, workspace.legendreSums);
+  }
+  
+  /**
+   * Estimates the density of the standardized projections on the grid,
+   * into <code>workspace.fhat</code>, and fills <code>workspace.Phi</code>
+   * with the kernel's reference density on the same grid; see
+   * {@link #setKernel(int)}. May reorder
+   * <code>values</code>.
+   * @return The grid step.
+   */
+  private double computeDensity(double[] values, Workspace workspace) {
+    final int n = values.length;
+    final double lowerQuantile;
+    final double upperQuantile;
+    final double xl;
+    
+    if (densityEngine == BINNED_DENSITY_ENGINE) {
+      
+      // Binning does not need the values in order, so find the quartiles
+      // by selection and the extremes by a scan instead of sorting.
+      
+      lowerQuantile = Sorter.select(values, 0, n - 1, n / 4);
+      upperQuantile = Sorter.select(values, n / 4, n - 1, n * 3 / 4);
+      
+      double min = values[0];
+      double max = values[0];
+      for (int i = 1; i < n; i++) {
+        double value = values[i];
+        if (value < min)
+          min = value;
+        else if (value > max)
+          max = value;
+      }
+      xl = Math.max(Math.abs(min), Math.abs(max));
+    } else {
+      
+      // Sort the projected points in ascending order. (Using QuickSort.)
+      
+      if (isParallel(n))
+        Arrays.parallelSort(values);
+      else
+        Sorter.quickSort(values);
+      
+      lowerQuantile = values[n / 4];
+      upperQuantile = values[n * 3 / 4];
+      xl = Math.max(Math.abs(values[0]), Math.abs(values[n - 1]));
+    }
+    
+    final double interQuantileRange = upperQuantile - lowerQuantile;
+    
+    final Kernel kernel = kernels[this.kernel];
+    final double bandwidth = kernel.getBandwidthFactor() *
+                             Math.min(1.0, interQuantileRange / 1.34) *
+                             Math.pow(n, -1d/5);
+    final double radius = kernel.getRadius() * bandwidth;
+    
+    final int m = getCurrentGridResolution();
+    final int M = 2 * m + 1;
+    workspace.ensureGrid(M);
+    final double[] fhat = workspace.fhat;
+    final double[] Phi = workspace.Phi;
+    final double step = xl / m;
+    final double x0 = -xl - step / 2;
+    
+    if (densityEngine == BINNED_DENSITY_ENGINE) {
+      final double[] counts = workspace.counts;
+      if (isParallel(n)) {
+        final double[][] chunkCounts = workspace.getChunkCounts(getChunkCount(n, parallelChunkSize), M);
+        IntStream.range(0, chunkCounts.length).parallel().forEach(c -> {
+          Arrays.fill(chunkCounts[c], 0.0);
+          int from = c * parallelChunkSize;
+          binLinearly(values, from, Math.min(n, from + parallelChunkSize), x0, step, chunkCounts[c]);
+        });
+        Arrays.fill(counts, 0.0);
+        for (int c = 0; c < chunkCounts.length; c++)
+          for (int j = 0; j < M; j++)
+            counts[j] += chunkCounts[c][j];
+      } else {
+        Arrays.fill(counts, 0.0);
+        binLinearly(values, 0, n, x0, step, counts);
+      }
+      computeBinnedDensity(counts, kernel, bandwidth, step, workspace.stencil, fhat);
+    } else if (isParallel(n))
+      IntStream.range(0, getChunkCount(M, parallelGridBlockSize)).parallel().forEach(b -> {
+        int from = b * parallelGridBlockSize;
+        computeExactDensity(values, kernel, bandwidth, radius, x0, step, fhat,
+                            from, Math.min(M, from + parallelGridBlockSize));
+      });
+    else
+      computeExactDensity(values, kernel, bandwidth, radius, x0, step, fhat, 0, M);
+    
+    if (pointWeight != 1.0)
+      for (int j = 0; j < M; j++)
+        fhat[j] *= pointWeight;
+    
+    // The grid scales with the extent of the values, so the reference
+    // density is computed afresh for each evaluation; it costs a few
+    // exponentials per grid point, against the estimate's pass over the
+    // values for each grid point.
+    double x = x0;
+    for (int j = 0; j < M; j++) {
+      Phi[j] = kernel.evaluateReference(x, bandwidth);
+      x += step;
+    }
+    
+    return step;
+  }
+  
+  /**
+   * Integrates the distance between the density estimate and the normal
+   * density left in the workspace by {@link #computeDensity}.
+   */
+  private double computeDistanceIndex(Distance distance, double step, Workspace workspace) {
+    final double[] fhat = workspace.fhat;
+    final double[] Phi = workspace.Phi;
+    final double[] integrand = workspace.integrand;
+    final int M = fhat.length;
+    for (int j = 0; j < M; j++)
+      integrand[j] = distance.evaluate(fhat[j], Phi[j]);
+    
+    return computeIntegral(M, step, integrand);
+  }
+  
+  /**
+   * Estimates the density at the grid points <code>x0 + j * step</code>,
+   * <code>from &lt;= j &lt; to</code>, by summing the kernel over the window
+   * of the sorted values within its radius of each grid point. The window of
+   * the first grid point is found by bisection, so that blocks of grid
+   * points can be estimated independently.
+   */
+  private static void computeExactDensity(double[] values, Kernel kernel,
+                                          double bandwidth, double radius,
+                                          double x0, double step, double[] fhat,
+                                          int from, int to) {
+    // Step from x0 as the sequential walk does, so that each block sees the
+    // same grid points.
+    double x = x0;
+    for (int j = 0; j < from; j++)
+      x += step;
+    
+    int i0 = from == 0 ? 0 : lowerBound(values, x - radius);
+    int i1 = i0;
+    
+    for (int j = from; j < to; j++) {
+      
+      while (i0 < values.length && values[i0] < x - radius)
+        i0++;
+      if (i1 < i0)
+        i1 = i0;
+      while (i1 < values.length && values[i1] <= x + radius)
+        i1++;
+      
+      fhat[j] = kernel.sum(values, i0, i1, x, bandwidth) / bandwidth;
+      
+      x += step;
+      
+    }
+  }
+  
+  /**
+   * Returns the index of the first of the sorted <code>values</code> that is
+   * not less than <code>x</code>.
+   */
+  private static int lowerBound(double[] values, double x) {
+    int low = 0;
+    int high = values.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (values[middle] < x)
+        low = middle + 1;
+      else
+        high = middle;
+    }
+    return low;
+  }
+  
+  /**
+   * Distributes each of <code>values[from]</code> to
+   * <code>values[to - 1]</code> over its two neighbouring grid points
+   * <code>x0 + j * step</code> in proportion to its distance from them, adding
+   * to <code>counts</code>. Values beyond the last grid point are assigned to
+   * it.
+   */
+  private static void binLinearly(double[] values, int from, int to,
+                                  double x0, double step, double[] counts) {
+    final int M = counts.length;
+    for (int i = from; i < to; i++) {
+      double position = (values[i] - x0) / step;
+      int l = (int) Math.floor(position);
+      if (l < 0)
+        counts[0] += 1.0;
+      else if (l >= M - 1)
+        counts[M - 1] += 1.0;
+      else {
+        double fraction = position - l;
+        counts[l] += 1.0 - fraction;
+        counts[l + 1] += fraction;
+      }
+    }
+  }
+  
+  /**
+   * Estimates the density on the grid from the binned <code>counts</code> by
+   * convolving them with the kernel sampled at multiples of
+   * <code>step</code>. The result has the same scale as the exact engine's.
+   */
+  private static void computeBinnedDensity(double[] counts, Kernel kernel, double bandwidth,
+                                           double step, double[] stencil, double[] fhat) {
+    final int M = fhat.length;
+    final int L = Math.min(M - 1, (int) (kernel.getRadius() * bandwidth / step));
+    for (int l = 0; l <= L; l++)
+      stencil[l] = kernel.evaluate(l * step / bandwidth) / bandwidth;
+    
+    ArrayMath.convolveSymmetric(counts, stencil, L, fhat, M);
+  }
+  
+  /**
+   * Computes the Shape index in a single streaming pass: the points are
+   * projected a chunk at a time, and only the sums of the first four powers
+   * of the projections are kept. The central moments follow from these
+   * sums; the projections are shifted by an estimate of their mean first,
+   * taken from the first chunk, so that the conversion does not cancel
+   * catastrophically.
+   */
+  private double computeShapeIndex(double[] axis, Workspace workspace) {
+    final int n = points.getPointCount();
+    final double[] chunk = workspace.chunk;
+    final double[] sums = workspace.momentSums;
+    
+    double shift = 0.0;
+    double sum1 = 0.0;
+    double sum2 = 0.0;
+    double sum3 = 0.0;
+    double sum4 = 0.0;
+    if (isParallel(n)) {
+      final int count = Math.min(shapeChunkSize, n);
+      points.projectOnto(axis, 0, count, chunk, 0);
+      for (int i = 0; i < count; i++)
+        shift += chunk[i];
+      shift /= count;
+      
+      // Each task projects its chunk into a buffer of its own.
+      final int chunkCount = getChunkCount(n, shapeChunkSize);
+      final double[][] chunkSums = workspace.getChunkSums(chunkCount);
+      final double[][] chunks = workspace.getChunks(chunkCount);
+      final double chunkShift = shift;
+      IntStream.range(0, chunkSums.length).parallel().forEach(c -> {
+        final double[] taskChunk = chunks[c];
+        final int from = c * shapeChunkSize;
+        final int taskCount = Math.min(shapeChunkSize, n - from);
+        points.projectOnto(axis, from, from + taskCount, taskChunk, 0);
+        for (int i = 0; i < taskCount; i++)
+          taskChunk[i] -= chunkShift;
+        ArrayMath.powerSums(taskChunk, 0, taskCount, chunkSums[c]);
+      });
+      for (int c = 0; c < chunkSums.length; c++) {
+        sum1 += chunkSums[c][0];
+        sum2 += chunkSums[c][1];
+        sum3 += chunkSums[c][2];
+        sum4 += chunkSums[c][3];
+      }
+    } else {
+      for (int from = 0; from < n; from += shapeChunkSize) {
+        final int count = Math.min(shapeChunkSize, n - from);
+        points.projectOnto(axis, from, from + count, chunk, 0);
+        if (from == 0) {
+          for (int i = 0; i < count; i++)
+            shift += chunk[i];
+          shift /= count;
+        }
+        for (int i = 0; i < count; i++)
+          chunk[i] -= shift;
+        ArrayMath.powerSums(chunk, 0, count, sums);
+        sum1 += sums[0];
+        sum2 += sums[1];
+        sum3 += sums[2];
+        sum4 += sums[3];
+      }
+    }
+    
+    final double d = sum1 / n;
+    final double m2 = sum2 / n - d * d;
+    final double m3 = sum3 / n - 3 * d * sum2 / n + 2 * d * d * d;
+    final double m4 = sum4 / n - 4 * d * sum3 / n + 6 * d * d * sum2 / n - 3 * d * d * d * d;
+    final double standardDeviation = Math.sqrt(m2);
+    
+    return computeShapeIndex(n, m2,
+                             n * m3 / (standardDeviation * m2),
+                             n * m4 / (m2 * m2));
+  }
+  
+  /**
+   * Computes the Legendre index of the standardized projections
+   * <code>values</code>: the sum over j = 1..J of (2j + 1) / 2 times the
+   * square of the mean of P_j(R), where P_j is the Legendre polynomial of
+   * degree j and R = 2 Phi(Z) - 1. The polynomials are evaluated by their
+   * three-term recurrence.
+   */
+  private static double computeLegendreIndex(double[] values, double[] sums) {
+    final int J = legendreTermCount;
+    Arrays.fill(sums, 0.0);
+    for (int i = 0; i < values.length; i++) {
+      final double r = erf(values[i] / Math.sqrt(2.0));
+      double previous = 1.0;
+      double current = r;
+      sums[1] += current;
+      for (int j = 1; j < J; j++) {
+        double next = ((2 * j + 1) * r * current - j * previous) / (j + 1);
+        previous = current;
+        current = next;
+        sums[j + 1] += current;
+      }
+    }
+    
+    double index = 0.0;
+    for (int j = 1; j <= J; j++) {
+      double mean = sums[j] / values.length;
+      index += (2 * j + 1) / 2.0 * mean * mean;
+    }
+    return index;
+  }
+  
+  /**
+   * The error function, to within 1.2e-7 (Numerical Recipes, erfcc).
+   */
+  static double erf(double x) {
+    final double t = 1.0 / (1.0 + 0.5 * Math.abs(x));
+    final double erfc =
+      t * Math.exp(-x * x - 1.26551223 +
+                   t * (1.00002368 + t * (0.37409196 + t * (0.09678418 +
+                   t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 +
+                   t * (1.48851587 + t * (-0.82215223 + t * 0.17087277)))))))));
+    return x >= 0.0 ? 1.0 - erfc : erfc - 1.0;
+  }
+  
+  /**
+   * Combines the variance of the projections and the sums of the third and
+   * fourth powers of the standardized projections into the Shape index.
+   */
+  private static double computeShapeIndex(int n, double variance, double sum3, double sum4) {
+    final double skewness = sum3 * n / (n - 1) / (n - 2);
+    final double kurtosis = sum4 * n * (n + 1) / (n - 1) / (n - 2) / (n - 3) -
+                            3 * (n - 1) * (n - 1) / (n - 2) / (n - 3);
+    
+    final double k2 = variance;
+    final double k3 = skewness;
+    final double k4 = kurtosis;
+    
+    final double k2_3 = k2 * k2 * k2;
+    
+    return (k3 * k3 / k2_3 + k4 * k4 / k2_3 / k2 / 4) / 12;
+  }
+  
+  /**
+   * Sorts <code>values</code> into <code>binCount</code> equal bins spanning
+   * their range, and stores, for each non-empty bin, the mean of the values
+   * in it in <code>centres</code>, their number in <code>weights</code>, and
+   * the sum of their squared deviations from the mean in
+   * <code>spreads</code>. Together these keep the first two moments of the
+   * values within each bin.
+   * @return The number of non-empty bins.
+   */
+  public static int binValues(double[] values, int binCount,
+                              double[] centres, double[] weights, double[] spreads) {
+    double min = values[0];
+    double max = values[0];
+    for (int i = 1; i < values.length; i++) {
+      double value = values[i];
+      if (value < min)
+        min = value;
+      else if (value > max)
+        max = value;
+    }
+    
+    Arrays.fill(centres, 0, binCount, 0.0);
+    Arrays.fill(weights, 0, binCount, 0.0);
+    Arrays.fill(spreads, 0, binCount, 0.0);
+    final double scale = max > min ? binCount / (max - min) : 0.0;
+    for (int i = 0; i < values.length; i++) {
+      int bin = Math.min(binCount - 1, (int) ((values[i] - min) * scale));
+      centres[bin] += values[i];
+      weights[bin] += 1.0;
+      spreads[bin] += values[i] * values[i];
+    }
+    
+    int count = 0;
+    for (int bin = 0; bin < binCount; bin++) {
+      if (weights[bin] > 0.0) {
+        double centre = centres[bin] / weights[bin];
+        centres[count] = centre;
+        weights[count] = weights[bin];
+        spreads[count] = Math.max(0.0, spreads[bin] - weights[bin] * centre * centre);
+        count++;
+      }
+    }
+    return count;
+  }
+  
+  private double computeIntegral(int n, double step, double[] f) {
+    double sum = 0.0;
+    for (int i = 1; i < n - 1; i++)
+      sum += f[i];
+    return (sum + (f[0] + f[n - 1]) / 2) * step;
+  }
+  
+  /**
+   * Returns the standard normal density at <code>z</code>.
+   */
+  public static double kernel(double z) {
+    return 1 / Math.sqrt(2 * Math.PI) * Math.exp(z * z / -2);
+  }
+  
+  private static double calculateTrimmedStandardDeviation(double[] values) {
+    
+    /* Compute the standard deviation of the (sorted) list "values"
+     * ignoring the low and high entries. The number of entries to
+     * trim for each end is determined by the proportion "TFACT".
+     */
+    
+    final double TFACT  = 0.1;
+    
+    int ntrim = (int) (TFACT * values.length);
+    double nleft = values.length - 2.0 * ntrim;
+    double sum = 0.0;
+    double sumsq = 0.0;
+    for (int i = ntrim; i < values.length - ntrim; i++) {
+      double value = values[i];
+      sum += value;
+      sumsq += value * value;
+    }
+    double q = sum / nleft;
+    return Math.sqrt(sumsq / nleft - q * q);
+  }
+  
+  private static double calculateDensity(double[] list, double horzn) {
+    
+    /* Compute the weighted nearness of list items within the horizon
+     * "horzn" (equal points receive a weight equal to the horizon
+     * value, unequal points receive a weight which decreases linearly
+     * with increasing distance to zero at the horizon and beyond),
+     * for all possible pairings of points.
+     */
+    
+    // First, set up the vector of discrete "values" of "list".
+    
+    double[] value = new double[list.length];
+    int[] noccur = new int[list.length];
+    
+    int count = 0;
+    double curval = list[0];
+    value[0] = list[0];
+    noccur[0] = 1;
+    
+    for (int i = 1; i < list.length; i++) {
+      if (list[i] != curval) {
+        count++;
+        value[count] = list[i];
+        curval = list[i];
+        noccur[count] = 1;
+      } else {
+        noccur[count]++;
+      }
+    }
+    
+    double dense = 0.0;
+    for (int i = 0; i < count; i++) {
+      for (int j = i + 1; j <= count; j++) {
+        double dist = value[j] - value[i];
+        if (dist > horzn)
+          break;
+        dense += noccur[i] * noccur[j] * (horzn - dist);
+      }
+    }
+    for (int i = 0; i <= count; i++)
+      dense += 0.5 * (noccur[i] * (noccur[i] - 1)) * horzn;
+    
+    return 2.0 * dense + list.length * horzn;
+  }
+}
+
+interface Distance {
+  double evaluate(double fhat, double phi);
+}
+
+interface Kernel {
+  /**
+   * The constant in the normal reference bandwidth rule for this kernel.
+   */
+  double getBandwidthFactor();
+  /**
+   * Beyond this distance from 0, the kernel is zero, or negligible.
+   */
+  double getRadius();
+  double evaluate(double z);
+  /**
+   * Returns the sum of the kernel at
+   * <code>(centre - values[i]) / bandwidth</code> over <code>i</code> in
+   * <code>[from, to)</code>.
+   */
+  double sum(double[] values, int from, int to, double centre, double bandwidth);
+  /**
+   * Returns the density at <code>x</code> that an estimate with this kernel
+   * at <code>bandwidth</code> is compared with.
+   */
+  double evaluateReference(double x, double bandwidth);
+}
+
+interface DifferentiableDistance extends Distance {
+  double derivativeByFhat(double fhat, double phi);
+  double derivativeByPhi(double fhat, double phi);
+}
+
+interface TabularFunction {
+  double evaluate(int index);
 }
\ No newline at end of file
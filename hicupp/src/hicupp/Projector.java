@@ -1,16 +1,39 @@
-package hicupp;
-
-public class Projector {
-  public static double[] project(SetOfPoints points, double[] axis) {
-    double[] values = new double[points.getPointCount()];
-    PointIterator iterator = points.createIterator();
-    for (int k = 0; k < points.getPointCount(); k++) {
-      iterator.next();
-      double value = 0.0;
-      for (int i = 0; i < points.getDimensionCount(); i++)
-        value += iterator.getCoordinate(i) * axis[i];
-      values[k] = value;
-    }
-    return values;
-  }
-}
+package hicupp;
+
+public class Projector {
+  public static double[] project(SetOfPoints points, double[] axis) {
+    double[] values = new double[points.getPointCount()];
+    project(points, axis, values);
+    return values;
+  }
+  
+  /**
+   * Stores the projection of each point onto <code>axis</code> in the first
+   * {@link SetOfPoints#getPointCount()} elements of <code>values</code>.
+   */
+  public static void project(SetOfPoints points, double[] axis, double[] values) {
+    points.projectOnto(axis, values);
+  }
+  
+  /**
+   * The number of points projected onto all axes before moving on to the
+   * next points.
+   */
+  private static final int blockSize = 4096;
+  
+  /**
+   * Stores the projection of each point onto <code>axes[a]</code> in
+   * <code>values[a]</code>, for each <code>a</code> less than
+   * <code>axisCount</code>. The points are projected a block at a time onto
+   * all axes, so that each block is still in cache for every axis after the
+   * first.
+   */
+  public static void project(SetOfPoints points, double[][] axes, int axisCount, double[][] values) {
+    final int npoints = points.getPointCount();
+    for (int from = 0; from < npoints; from += blockSize) {
+      int to = Math.min(npoints, from + blockSize);
+      for (int a = 0; a < axisCount; a++)
+        points.projectOnto(axes[a], from, to, values[a], from);
+    }
+  }
+}
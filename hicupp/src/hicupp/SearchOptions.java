@@ -0,0 +1,61 @@
+package hicupp;
+
+/**
+ * Options for {@link Clusterer#findAxis(int, int, SetOfPoints, Monitor,
+ * hicupp.algorithms.AlgorithmParameters, SearchOptions)} that change how the
+ * projection index is computed and searched, rather than which index is
+ * maximized.
+ * @param densityEngine See {@link ProjectionIndexFunction#getDensityEngineNames()}.
+ * @param kernel See {@link ProjectionIndexFunction#getKernelNames()}.
+ * @param cacheEvaluations Whether to remember the values of recently
+ *                         evaluated axes; see {@link CachingFunctionWrapper}.
+ * @param multiFidelity Whether to search on growing samples of the points;
+ *                      see {@link MultiFidelityFunctionWrapper}.
+ * @param gridResolution See {@link ProjectionIndexFunction#setGridResolution(int)}.
+ * @param adaptiveGrid See {@link ProjectionIndexFunction#setAdaptiveGrid(boolean)}.
+ * @param parallelEvaluation See {@link ProjectionIndexFunction#setParallel(boolean)}.
+ *                           Ignored when <code>evaluationThreads</code> is
+ *                           greater than 1, so that the threads evaluating a
+ *                           batch do not each start more.
+ * @param sphering Whether to search for the axis among the points sphered
+ *                 by their covariance matrix; see {@link AxisTransformFunction}.
+ * @param varianceExplained If less than 1, the axis is searched for among
+ *                          the fewest principal axes of the points that
+ *                          explain this fraction of their variance; see
+ *                          {@link MatrixTools#computePrincipalAxes(Jama.Matrix, double, boolean)}.
+ * @param cardinality If positive and less than the number of dimensions, the
+ *                    axis has at most this many non-zero coordinates; see
+ *                    {@link SparseAxisFinder}. The sparse search does not
+ *                    combine with sphering, principal components or
+ *                    multi-fidelity evaluation, which are then ignored.
+ * @param evaluationThreads If greater than 1, the evaluations of each batch
+ *                          submitted by the optimizer are divided among this
+ *                          many threads; see {@link ParallelFunctionWrapper}.
+ * @param mixtureWarmStart See {@link ProjectionIndexFunction#setMixtureWarmStart(boolean)}.
+ */
+public record SearchOptions(int densityEngine,
+                            int kernel,
+                            boolean cacheEvaluations,
+                            boolean multiFidelity,
+                            int gridResolution,
+                            boolean adaptiveGrid,
+                            boolean parallelEvaluation,
+                            boolean sphering,
+                            double varianceExplained,
+                            int cardinality,
+                            int evaluationThreads,
+                            boolean mixtureWarmStart) {
+  public static final SearchOptions defaults =
+    new SearchOptions(ProjectionIndexFunction.EXACT_DENSITY_ENGINE,
+                      ProjectionIndexFunction.GAUSSIAN_KERNEL,
+                      false,
+                      false,
+                      ProjectionIndexFunction.defaultGridResolution,
+                      false,
+                      false,
+                      false,
+                      1.0,
+                      0,
+                      1,
+                      false);
+}
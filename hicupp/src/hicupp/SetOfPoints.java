@@ -1,7 +1,59 @@
-package hicupp;
-
-public interface SetOfPoints {
-  int getDimensionCount();
-  int getPointCount();
-  PointIterator createIterator();
-}
+package hicupp;
+
+public interface SetOfPoints {
+  int getDimensionCount();
+  int getPointCount();
+  PointIterator createIterator();
+  
+  /**
+   * Stores the projection of each point onto <code>axis</code> in the first
+   * {@link #getPointCount()} elements of <code>out</code>.
+   */
+  default void projectOnto(double[] axis, double[] out) {
+    projectOnto(axis, 0, getPointCount(), out, 0);
+  }
+  
+  /**
+   * Stores the projection onto <code>axis</code> of each point
+   * <code>k</code> from <code>from</code> (inclusive) to <code>to</code>
+   * (exclusive) in <code>out[offset + k - from]</code>.
+   * <p>The default implementation walks a {@link PointIterator} from the
+   * first point; implementations override it with a loop over their own
+   * storage.</p>
+   */
+  default void projectOnto(double[] axis, int from, int to, double[] out, int offset) {
+    final int ndims = getDimensionCount();
+    PointIterator iterator = createIterator();
+    for (int k = 0; k < from; k++)
+      iterator.next();
+    for (int k = from; k < to; k++) {
+      iterator.next();
+      double value = 0.0;
+      for (int i = 0; i < ndims; i++)
+        value += iterator.getCoordinate(i) * axis[i];
+      out[offset + k - from] = value;
+    }
+  }
+  
+  /**
+   * Stores the projection onto <code>axis</code> of point
+   * <code>indices[k]</code> in <code>out[offset + k - from]</code>, for each
+   * <code>k</code> from <code>from</code> (inclusive) to <code>to</code>
+   * (exclusive). The indices must be increasing.
+   */
+  default void projectOnto(double[] axis, int[] indices, int from, int to, double[] out, int offset) {
+    final int ndims = getDimensionCount();
+    PointIterator iterator = createIterator();
+    int position = -1;
+    for (int k = from; k < to; k++) {
+      while (position < indices[k]) {
+        iterator.next();
+        position++;
+      }
+      double value = 0.0;
+      for (int i = 0; i < ndims; i++)
+        value += iterator.getCoordinate(i) * axis[i];
+      out[offset + k - from] = value;
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package hicupp;
+
+/**
+ * Searches for a projection axis with at most a given number of non-zero
+ * coordinates, selecting the coordinates (columns) one at a time.
+ * <p>The first column is the one whose values alone have the highest
+ * index. At each later step, every remaining column is screened by
+ * evaluating the index on a few axes that mix it with the projection onto
+ * the current axis, each scaled to unit variance first; the best column is
+ * added, and the index is then maximized over the selected columns by the
+ * given optimizer. The search stops early when no column improves the
+ * index by more than a small fraction.</p>
+ * <p>The points are held column by column, and the index is only ever
+ * computed on the selected columns, so a projection costs a pass over as
+ * many columns as are selected rather than over all of them.</p>
+ */
+public class SparseAxisFinder {
+  /**
+   * Creates the projection index function for a subset of the columns.
+   */
+  public interface Factory {
+    Function createFunction(SetOfPoints points);
+  }
+
+  /**
+   * Maximizes a function, returning its arguments at the maximum.
+   */
+  public interface Maximizer {
+    double[] maximize(Function function) throws NoConvergenceException, CancellationException;
+  }
+
+  /**
+   * The weights of the current projection in the axes on which a candidate
+   * column is screened; the column's weight is positive, and makes the axis
+   * unit length.
+   */
+  private static final double[] screeningWeights = {0.966, 0.866, 0.5, -0.5, -0.866, -0.966};
+  /**
+   * The relative improvement of the index below which a column is not added.
+   */
+  private static final double minimumImprovement = 1e-4;
+
+  /**
+   * Returns a unit axis with at most <code>cardinality</code> non-zero
+   * coordinates.
+   * @param points If not a {@link ColumnSetOfPoints}, they are copied into
+   *               one first.
+   */
+  public static double[] findAxis(SetOfPoints points, int cardinality,
+                                  Factory factory, Maximizer maximizer, Monitor monitor)
+      throws NoConvergenceException, CancellationException {
+    final ColumnSetOfPoints columns = points instanceof ColumnSetOfPoints ?
+                                      (ColumnSetOfPoints) points :
+                                      new ColumnSetOfPoints(points);
+    final int ndims = columns.getDimensionCount();
+    final int npoints = columns.getPointCount();
+    cardinality = Math.min(cardinality, ndims);
+
+    // Choose the first column by its index alone.
+    int best = -1;
+    double value = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < ndims; i++) {
+      if (monitor != null)
+        monitor.continuing();
+      double columnValue = factory.createFunction(columns.selectColumns(new int[] {i}))
+                                  .evaluate(new double[0]);
+      if (best < 0 || columnValue > value) {
+        value = columnValue;
+        best = i;
+      }
+    }
+    int[] selected = {best};
+    boolean[] isSelected = new boolean[ndims];
+    isSelected[best] = true;
+    double[] subspaceAxis = {1.0};
+    final double[] projection = new double[npoints];
+    reportSelection(monitor, best, value);
+
+    while (selected.length < cardinality) {
+      columns.selectColumns(selected).projectOnto(subspaceAxis, projection);
+      final double projectionDeviation = computeStandardDeviation(projection);
+
+      final double threshold = value + minimumImprovement * Math.abs(value);
+      best = -1;
+      double bestScreeningValue = threshold;
+      double[] arguments = new double[1];
+      for (int i = 0; i < ndims; i++) {
+        if (isSelected[i])
+          continue;
+        if (monitor != null)
+          monitor.continuing();
+        final double columnDeviation = computeStandardDeviation(columns.getColumn(i));
+        if (columnDeviation == 0.0)
+          continue;
+        Function function = factory.createFunction(
+          new ColumnSetOfPoints(new double[][] {projection, columns.getColumn(i)}));
+        for (int w = 0; w < screeningWeights.length; w++) {
+          double a = screeningWeights[w] / projectionDeviation;
+          double b = Math.sqrt(1.0 - screeningWeights[w] * screeningWeights[w]) / columnDeviation;
+          arguments[0] = a / Math.sqrt(a * a + b * b);
+          double screeningValue = function.evaluate(arguments);
+          if (screeningValue > bestScreeningValue) {
+            bestScreeningValue = screeningValue;
+            best = i;
+          }
+        }
+      }
+      if (best < 0)
+        break;
+
+      int[] candidate = new int[selected.length + 1];
+      System.arraycopy(selected, 0, candidate, 0, selected.length);
+      candidate[selected.length] = best;
+
+      Function function = factory.createFunction(columns.selectColumns(candidate));
+      double[] maximum = maximizer.maximize(function);
+      double candidateValue = function.evaluate(maximum);
+      if (!(candidateValue > threshold))
+        break;
+
+      selected = candidate;
+      isSelected[best] = true;
+      value = candidateValue;
+      subspaceAxis = toAxis(maximum);
+      reportSelection(monitor, best, value);
+    }
+
+    double[] axis = new double[ndims];
+    for (int k = 0; k < selected.length; k++)
+      axis[selected[k]] = subspaceAxis[k];
+    return axis;
+  }
+
+  private static void reportSelection(Monitor monitor, int column, double value) {
+    if (monitor != null)
+      monitor.writeLine("Sparse search: added column " + (column + 1) +
+                        "; projection index " + value + ".");
+  }
+
+  /**
+   * Returns the unit axis whose leading coordinates are
+   * <code>arguments</code>.
+   */
+  private static double[] toAxis(double[] arguments) {
+    double[] axis = new double[arguments.length + 1];
+    double sumOfSquares = 0.0;
+    for (int j = 0; j < arguments.length; j++) {
+      axis[j] = arguments[j];
+      sumOfSquares += arguments[j] * arguments[j];
+    }
+    axis[arguments.length] = sumOfSquares < 1.0 ? Math.sqrt(1.0 - sumOfSquares) : 0.0;
+    return axis;
+  }
+
+  private static double computeStandardDeviation(double[] values) {
+    double sum = 0.0;
+    for (int k = 0; k < values.length; k++)
+      sum += values[k];
+    double mean = sum / values.length;
+    double sumOfSquares = 0.0;
+    for (int k = 0; k < values.length; k++) {
+      double deviation = values[k] - mean;
+      sumOfSquares += deviation * deviation;
+    }
+    return Math.sqrt(sumOfSquares / values.length);
+  }
+}
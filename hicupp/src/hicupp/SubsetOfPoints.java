@@ -0,0 +1,57 @@
+package hicupp;
+
+/**
+ * The points of another set with the given indices, in the same order.
+ * Projections are passed on to the other set's indexed
+ * {@link SetOfPoints#projectOnto(double[], int[], int, int, double[], int)}.
+ */
+public class SubsetOfPoints implements SetOfPoints {
+  private final SetOfPoints points;
+  private final int[] indices;
+  
+  /**
+   * @param indices Increasing indices of points in <code>points</code>.
+   */
+  public SubsetOfPoints(SetOfPoints points, int[] indices) {
+    this.points = points;
+    this.indices = indices;
+  }
+  
+  public int getDimensionCount() {
+    return points.getDimensionCount();
+  }
+  
+  public int getPointCount() {
+    return indices.length;
+  }
+  
+  public void projectOnto(double[] axis, int from, int to, double[] out, int offset) {
+    points.projectOnto(axis, indices, from, to, out, offset);
+  }
+  
+  public PointIterator createIterator() {
+    return new SubsetPointIterator();
+  }
+  
+  private class SubsetPointIterator implements PointIterator {
+    private final PointIterator iterator = points.createIterator();
+    private int k = -1;
+    private int position = -1;
+    
+    public boolean hasNext() {
+      return k + 1 < indices.length;
+    }
+    
+    public void next() {
+      k++;
+      while (position < indices[k]) {
+        iterator.next();
+        position++;
+      }
+    }
+    
+    public double getCoordinate(int index) {
+      return iterator.getCoordinate(index);
+    }
+  }
+}
@@ -84,8 +84,7 @@ public final class Simplex {
         // Compute function values.
 
         double[] fx = new double[np1];
-        for (int i = 0; i < np1; i++)
-            fx[i] = wrapper.evaluate(x[i]);
+        wrapper.evaluate(x, fx);
 
         int iter = 0;
         while (true) {
@@ -202,9 +201,16 @@ public final class Simplex {
                                     x[i][j] = (x[i][j] + x[high][j]) * 0.5;
                             }
                         }
-                        for (int i = 0; i < np1; i++) {
+                        double[][] shrunk = new double[n][];
+                        double[] fxshrunk = new double[n];
+                        for (int i = 0, k = 0; i < np1; i++) {
                             if (i != high)
-                                fx[i] = wrapper.evaluate(x[i]);
+                                shrunk[k++] = x[i];
+                        }
+                        wrapper.evaluate(shrunk, fxshrunk);
+                        for (int i = 0, k = 0; i < np1; i++) {
+                            if (i != high)
+                                fx[i] = fxshrunk[k++];
                         }
                     } else {
                         for (int j = 0; j < n; j++)
@@ -226,6 +232,15 @@ public final class Simplex {
                         ") (convrg = " + TextTools.formatScientific(convrg) +
                         ") (x[high] = {" + AlgorithmUtilities.argumentArrayToString(x[high]) + "})");
 
+            // Let the function adapt to the progress made. If its values
+            // change, evaluate the vertices again so that they can still be
+            // compared with new points.
+
+            if (wrapper.convergenceChanged(convrg)) {
+                wrapper.evaluate(x, fx);
+                continue;
+            }
+
             if (convrg <= 1e-4)
                 break;
         }
@@ -68,6 +68,7 @@ public final class GeneticAlgorithm {
 
             // crossover population
             System.out.println("Crossover population.");
+            ArrayList<Chromosome> children = new ArrayList<>(populationSize);
             for (int j = 0; j < populationSize; j++) {
                 Chromosome father = population.get(random.nextInt(populationSize));
                 Chromosome mother = population.get(random.nextInt(populationSize));
@@ -80,18 +81,24 @@ public final class GeneticAlgorithm {
 
                 if (father.equals(mother)) {
                     System.out.println("Could not find another unique chromosome, generating a random child.");
-                    population.addAll(GeneticAlgorithmFunctions.generateChromosomes(1, n, wrapper));
+                    children.add(new Chromosome(AlgorithmUtilities.generateRandomArguments(n, 1)));
                 } else {
-                    Chromosome child = GeneticAlgorithmFunctions.crossover(father, mother, wrapper);
-                    population.add(child);
+                    Chromosome child = GeneticAlgorithmFunctions.crossover(father, mother);
+                    children.add(child);
                 }
             }
+            GeneticAlgorithmFunctions.evaluate(wrapper, children);
+            population.addAll(children);
             System.out.println("Population size " + population.size());
 
             // mutate
+            ArrayList<Chromosome> mutants = new ArrayList<>(mutationsPerGen);
             for (int j = 0; j < mutationsPerGen; j++) {
-                GeneticAlgorithmFunctions.mutate(wrapper, population.get(random.nextInt(populationSize)));
+                Chromosome mutant = population.get(random.nextInt(populationSize));
+                GeneticAlgorithmFunctions.mutate(mutant);
+                mutants.add(mutant);
             }
+            GeneticAlgorithmFunctions.evaluate(wrapper, mutants);
             System.out.println("Mutated " + mutationsPerGen + " chromosomes.");
 
             // spawn
@@ -120,6 +127,22 @@ public final class GeneticAlgorithm {
                         + fittest +
                         "(delta = " + TextTools.formatScientific(delta) + ")");
 
+            // Let the function adapt to the progress made, measured by the spread
+            // of the population's values. If its values change, evaluate the
+            // population again so that it can still be compared with new
+            // chromosomes.
+            final double fx_first = population.get(0).getFx();
+            final double fx_last = population.get(population.size() - 1).getFx();
+            final double convrg = 2.0 * Math.abs(fx_first - fx_last) /
+                    (Math.abs(fx_first) + Math.abs(fx_last));
+            if (wrapper.convergenceChanged(convrg)) {
+                GeneticAlgorithmFunctions.evaluate(wrapper, population);
+                population.sort(Comparator.comparingDouble(Chromosome::getFx).reversed());
+                fittest = population.get(0).clone();
+                noOfEquals = 0;
+                continue;
+            }
+
             // converging
             if (equal) noOfEquals++;
             else noOfEquals = 0;
@@ -5,6 +5,7 @@ import hicupp.MonitoringFunctionWrapper;
 import hicupp.algorithms.AlgorithmUtilities;
 
 import java.util.ArrayList;
+import java.util.List;
 
 final class GeneticAlgorithmFunctions {
 
@@ -24,30 +25,27 @@ final class GeneticAlgorithmFunctions {
             double[] x_new = AlgorithmUtilities.generateRandomArguments(n, 1);
 
             Chromosome chromosome = new Chromosome(x_new);
-            evaluate(wrapper, chromosome);
-
             population.add(chromosome);
         }
 
+        evaluate(wrapper, population);
         return population;
     }
 
     /**
-     * Crossover 2 chromosomes at random point
+     * Crossover 2 chromosomes at random point. The child is not evaluated; see
+     * {@link #evaluate(MonitoringFunctionWrapper, List)}.
      * @param father chromosome 1
      * @param mother chromosome 2
      * @return child chromosome
-     * @throws CancellationException thrown when monitor is cancelled / cannot create child
      */
-    public static Chromosome crossover(Chromosome father, Chromosome mother, MonitoringFunctionWrapper wrapper)
-            throws CancellationException {
+    public static Chromosome crossover(Chromosome father, Chromosome mother) {
         int n = father.getX().length;
         if (n != mother.getX().length) throw new RuntimeException("Mismatch gene length.");
 
         Chromosome child = father.clone();
 
         System.arraycopy(mother.getX(), 0, child.getX(), 0, n / 2);
-        evaluate(wrapper, child);
 
         return child;
     }
@@ -63,13 +61,31 @@ final class GeneticAlgorithmFunctions {
     }
 
     /**
-     * Create new random axis for chromosome
-     * @param wrapper Function wrapper to evaluate after mutation
+     * Evaluates the arguments of all chromosomes as one batch and sets each fx via
+     * {@link Chromosome#setFx(double)}
+     * @param wrapper Function wrapper to evaluate
+     * @param chromosomes Chromosomes in question
      * @throws CancellationException thrown when monitor is cancelled
      */
-    public static void mutate(MonitoringFunctionWrapper wrapper, Chromosome chromosome) throws CancellationException {
+    public static void evaluate(MonitoringFunctionWrapper wrapper, List<Chromosome> chromosomes)
+            throws CancellationException {
+        double[][] x = new double[chromosomes.size()][];
+        double[] fx = new double[x.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = chromosomes.get(i).getX();
+
+        wrapper.evaluate(x, fx);
+
+        for (int i = 0; i < x.length; i++)
+            chromosomes.get(i).setFx(fx[i]);
+    }
+
+    /**
+     * Create new random axis for chromosome. The chromosome is not evaluated; see
+     * {@link #evaluate(MonitoringFunctionWrapper, List)}.
+     */
+    public static void mutate(Chromosome chromosome) {
         chromosome.setX(AlgorithmUtilities.generateRandomArguments(chromosome.getX().length, 1));
-        evaluate(wrapper, chromosome);
     }
 
 }
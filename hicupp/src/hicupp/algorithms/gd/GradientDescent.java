@@ -59,8 +59,7 @@ public final class GradientDescent {
                      .forEach(System.out::println);
             System.out.println("Converges: " + solutions.stream().filter(Solution::isConverged).count() + "\n");
 
-            for (Solution solution : solutions)
-                GradientDescentFunctions.findGradient(solution, wrapper, n, h);
+            GradientDescentFunctions.findGradients(solutions, wrapper, n, h);
 
             for (Solution solution : solutions)
                 GradientDescentFunctions.findNewSolution(solution, wrapper, n, precision);
@@ -83,6 +82,25 @@ public final class GradientDescent {
             if (monitor != null)
                 monitor.writeLine("(iter = " + iteration + ") " + bestSolution);
 
+            // Let the function adapt to the progress made, measured by the
+            // largest relative step of the solutions still moving. If its values
+            // change, evaluate the solutions again so that they can still be
+            // compared with new ones.
+            double convrg = 0.0;
+            for (Solution solution : solutions)
+                if (!solution.isConverged() && solution.getFx() != 0.0)
+                    convrg = Math.max(convrg, solution.getDelta() / Math.abs(solution.getFx()));
+            if (wrapper.convergenceChanged(convrg)) {
+                GradientDescentFunctions.evaluate(solutions, wrapper);
+                bestSolution = solutions.stream()
+                        .max(Comparator.comparingDouble(Solution::getFx))
+                        .orElseThrow()
+                        .clone();
+                numberOfEquals = 0;
+                iteration++;
+                continue;
+            }
+
             // check stop condition
             if (solutions.stream().allMatch(Solution::isConverged))         // all solutions converged
                 allConverged = true;
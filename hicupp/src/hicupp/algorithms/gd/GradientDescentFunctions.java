@@ -5,18 +5,41 @@ import hicupp.MonitoringFunctionWrapper;
 import hicupp.algorithms.AlgorithmUtilities;
 
 import java.util.ArrayList;
+import java.util.List;
 
 final class GradientDescentFunctions {
     public static ArrayList<Solution> generateRandomSolutions(int numberOfSolutions, int n, MonitoringFunctionWrapper wrapper)
             throws CancellationException {
         ArrayList<Solution> solutions = new ArrayList<>(numberOfSolutions);
 
+        // evaluate all starting points in one batch
+        double[][] x = new double[numberOfSolutions][];
+        double[] fx = new double[numberOfSolutions];
         for (int i = 0; i < numberOfSolutions; i++)
-            solutions.add(generateRandomSolution(n, wrapper));
+            x[i] = AlgorithmUtilities.generateRandomArguments(n, 1);
+        wrapper.evaluate(x, fx);
+
+        for (int i = 0; i < numberOfSolutions; i++)
+            solutions.add(new Solution(x[i], fx[i]));
 
         return solutions;
     }
 
+    /**
+     * Evaluates all solutions again as one batch, after the function's values have changed.
+     */
+    public static void evaluate(List<Solution> solutions, MonitoringFunctionWrapper wrapper)
+            throws CancellationException {
+        double[][] x = new double[solutions.size()][];
+        double[] fx = new double[x.length];
+        for (int i = 0; i < x.length; i++)
+            x[i] = solutions.get(i).getX();
+        wrapper.evaluate(x, fx);
+
+        for (int i = 0; i < x.length; i++)
+            solutions.get(i).setFx(fx[i]);
+    }
+
     public static Solution generateRandomSolution(int n, MonitoringFunctionWrapper wrapper)
             throws CancellationException {
         double[] x = AlgorithmUtilities.generateRandomArguments(n, 1);
@@ -35,28 +58,72 @@ final class GradientDescentFunctions {
         solution.setDelta(Double.MAX_VALUE);
     }
 
-    public static void findGradient(Solution solution, MonitoringFunctionWrapper wrapper, int n, double h)
+    /**
+     * Finds the gradient of every solution that has not converged. Without a closed form, the
+     * forward probes of all solutions are evaluated as one batch, and the backward probes as another.
+     */
+    public static void findGradients(List<Solution> solutions, MonitoringFunctionWrapper wrapper, int n, double h)
             throws CancellationException {
-        if (!solution.isConverged()) {
-            final double[] x_current = solution.getX().clone();
-            final double fx_current = solution.getFx();
-            double[] gradient_current = new double[n];
-
-            for (int j = 0; j < n; j++) { // each axis
-                double[] x_new = x_current.clone();
-
-                x_new[j] += h;
-                double fx_new = wrapper.evaluate(x_new);
-                if (fx_new < fx_current || Math.abs(x_new[j]) > 1) {  // go opposite
-                    x_new[j] -= h * 2;
-                    fx_new = wrapper.evaluate(x_new);
-                }
+        ArrayList<Solution> active = new ArrayList<>(solutions.size());
+        for (Solution solution : solutions)
+            if (!solution.isConverged())
+                active.add(solution);
+        if (active.isEmpty())
+            return;
+
+        // use the closed form when the function provides one
+        if (wrapper.isDifferentiable()) {
+            for (Solution solution : active) {
+                double[] gradient_current = new double[n];
+                wrapper.evaluateWithGradient(solution.getX(), gradient_current);
+                solution.setGradient(gradient_current);
+            }
+            return;
+        }
 
-                double gradient_axis = (fx_new - fx_current) / h;
-                gradient_current[j] = gradient_axis;
+        // probe every axis of every solution forwards in one batch
+        final int m = active.size();
+        double[][] x_probes = new double[m * n][];
+        double[] fx_probes = new double[m * n];
+        for (int s = 0; s < m; s++) {
+            final double[] x_current = active.get(s).getX();
+            for (int j = 0; j < n; j++) {
+                x_probes[s * n + j] = x_current.clone();
+                x_probes[s * n + j][j] += h;
+            }
+        }
+        wrapper.evaluate(x_probes, fx_probes);
+
+        // probe the opposite way, in a second batch, along the axes where going forwards did not help
+        int[] opposite = new int[m * n];
+        int oppositeCount = 0;
+        for (int s = 0; s < m; s++) {
+            final double fx_current = active.get(s).getFx();
+            for (int j = 0; j < n; j++) {
+                int k = s * n + j;
+                if (fx_probes[k] < fx_current || Math.abs(x_probes[k][j]) > 1)
+                    opposite[oppositeCount++] = k;
             }
+        }
+        if (oppositeCount > 0) {
+            double[][] x_opposite = new double[oppositeCount][];
+            double[] fx_opposite = new double[oppositeCount];
+            for (int i = 0; i < oppositeCount; i++) {
+                int k = opposite[i];
+                x_opposite[i] = x_probes[k];
+                x_opposite[i][k % n] -= h * 2;
+            }
+            wrapper.evaluate(x_opposite, fx_opposite);
+            for (int i = 0; i < oppositeCount; i++)
+                fx_probes[opposite[i]] = fx_opposite[i];
+        }
 
-            solution.setGradient(gradient_current);
+        for (int s = 0; s < m; s++) {
+            final double fx_current = active.get(s).getFx();
+            double[] gradient_current = new double[n];
+            for (int j = 0; j < n; j++) // each axis
+                gradient_current[j] = (fx_probes[s * n + j] - fx_current) / h;
+            active.get(s).setGradient(gradient_current);
         }
     }
 
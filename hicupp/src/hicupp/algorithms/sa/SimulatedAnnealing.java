@@ -56,6 +56,15 @@ public class SimulatedAnnealing {
                 monitor.iterationStarted(iteration);
             }
 
+            // Let the function adapt to the progress made, measured by the
+            // temperature. If its values change, evaluate the current and best
+            // guesses again so that they can still be compared with new ones.
+            if (wrapper.convergenceChanged(temperature)) {
+                fx = wrapper.evaluate(x);
+                fx_best = wrapper.evaluate(x_best);
+                numberOfEquals = 0;
+            }
+
             // Generate new vector from -temperature to temperature
             double[] vector = AlgorithmUtilities.generateRandomArguments(n, temperature);
 
@@ -98,7 +107,15 @@ public class SimulatedAnnealing {
                 if (delta <= 1e-4) numberOfEquals++;
                 else numberOfEquals = 0;
 
-                if (numberOfEquals >= maxEquals) break;
+                // Before stopping, let the function adapt as if the search had
+                // converged, and go on if its values change.
+                if (numberOfEquals >= maxEquals) {
+                    if (!wrapper.convergenceChanged(0.0))
+                        break;
+                    fx = wrapper.evaluate(x);
+                    fx_best = wrapper.evaluate(x_best);
+                    numberOfEquals = 0;
+                }
             }
 
             // log
@@ -1,180 +1,262 @@
-package hicupp.classify;
-
-import hicupp.*;
-import hicupp.trees.*;
-
-import java.util.*;
-
-public final class ClassNode extends Observable implements SetOfPoints {
-  private final ClassTree tree;
-  private final ClassSplit parent;
-  private ClassSplit child;
-  private final Node node;
-  private int pointCount;
-  private double[] sums;
-  private double[] sumsOfSquares;
-  private ProjectionStatistics projectionStatisticsLookasideBuffer;
-  
-  private class NodeObserver implements Observer {
-    public void update(Observable o, Object typeOfChange) {
-      nodeChanged(typeOfChange);
-    }
-  }
-
-  private Observer nodeObserver = new NodeObserver();
-
-  ClassNode(ClassTree tree, ClassSplit parent, Node node) {
-    this.tree = tree;
-    this.parent = parent;
-    this.node = node;
-
-    node.addObserver(nodeObserver);
-    
-    Split split = node.getChild();
-    if (split != null)
-      child = new ClassSplit(tree, this, split);
-  }
-  
-  public ClassTree getTree() {
-    return tree;
-  }
-  
-  public ClassSplit getParent() {
-    return parent;
-  }
-  
-  public ClassSplit getChild() {
-    return child;
-  }
-  
-  public Node getNode() {
-    return node;
-  }
-  
-  public boolean containsPointAtIndex(int index) {
-    int serialNumber = node.getSerialNumber();
-    int pointClass = tree.getClasses()[index];
-    while (pointClass > serialNumber)
-      pointClass >>>= 1;
-    return pointClass == serialNumber;
-  }
-  
-  public int getDimensionCount() {
-    return tree.getPoints().getDimensionCount();
-  }
-  
-  public int getPointCount() {
-    return pointCount;
-  }
-  
-  private class NodePointIterator implements PointIterator {
-    private PointIterator iter = tree.getPoints().createIterator();
-    private int iterIndex = -1;
-    private int nextIndex = -1;
-
-    {
-      step();
-    }
-    
-    public boolean hasNext() {
-      return nextIndex < tree.getClasses().length;
-    }
-    
-    private void step() {
-      nextIndex++;
-      int serialNumber = node.getSerialNumber();
-      byte[] classes = tree.getClasses();
-      while (nextIndex < classes.length) {
-        int pointClass = classes[nextIndex] & 0xff;
-        while (pointClass > serialNumber)
-          pointClass >>>= 1;
-        if (pointClass == serialNumber)
-          break;
-        nextIndex++;
-      }
-    }
-    
-    public void next() {
-      while (iterIndex < nextIndex) {
-        iter.next();
-        iterIndex++;
-      }
-      step();
-    }
-    
-    public double getCoordinate(int index) {
-      return iter.getCoordinate(index);
-    }
-  }
-
-  public hicupp.PointIterator createIterator() {
-    return new NodePointIterator();
-  }
-  
-  public double getMean(int index) {
-    return sums[index] / pointCount;
-  }
-  
-  public double getStandardDeviation(int index) {
-    double mean = getMean(index);
-    return Math.sqrt(sumsOfSquares[index] / pointCount - mean * mean);
-  }
-
-  public ProjectionStatistics getProjectionStatisticsLookasideBuffer() {
-    return projectionStatisticsLookasideBuffer;
-  }
-  
-  public ProjectionStatistics computeProjectionStatistics(double[] axis) {
-    projectionStatisticsLookasideBuffer = new ProjectionStatistics(this, axis);
-    return projectionStatisticsLookasideBuffer;
-  }
-  
-  public void split(double[] axis) {
-    double threshold = computeProjectionStatistics(axis).getBestThreshold();
-    node.split(axis, threshold);
-  }
-  
-  void newPoints() {
-    pointCount = 0;
-    projectionStatisticsLookasideBuffer = null;
-    int ndims = tree.getPoints().getDimensionCount();
-    sums = new double[ndims];
-    sumsOfSquares = new double[ndims];
-    
-    if (child != null)
-      child.newPoints();
-  }
-  
-  int addPointAndClassify(double[] point) {
-    pointCount++;
-    for (int j = 0; j < point.length; j++) {
-      sums[j] += point[j];
-      sumsOfSquares[j] += point[j] * point[j];
-    }
-    
-    if (child == null)
-      return node.getSerialNumber();
-    else
-      return child.addPointAndClassify(point);
-  }
-
-  private void nodeChanged(Object typeOfChange) {
-    if (typeOfChange == "Split") {
-      child = new ClassSplit(tree, this, node.getChild());
-      child.newPoints();
-      child.addParentPointsToChildren();
-    } else if (typeOfChange == "Prune")
-      child = null;
-    else
-      throw new RuntimeException("Unknown type of change.");
-    setChanged();
-    notifyObservers(typeOfChange);
-  }
-  
-  void notifySubtreeNodeObservers(Object info) {
-    setChanged();
-    notifyObservers(info);
-    if (child != null)
-      child.notifySubtreeNodeObservers(info);
-  }
-}
+package hicupp.classify;
+
+import hicupp.*;
+import hicupp.trees.*;
+
+import java.util.*;
+
+public final class ClassNode extends Observable implements SetOfPoints, PointStatistics {
+  private final ClassTree tree;
+  private final ClassSplit parent;
+  private ClassSplit child;
+  private final Node node;
+  private int pointCount;
+  private double[] sums;
+  private double[] sumsOfSquares;
+  /**
+   * The running mean of the points and the sums of the products of their
+   * deviations from it, for each pair of coordinates <code>j &gt;= k</code>
+   * at <code>j * (j + 1) / 2 + k</code>; updated one point at a time as in
+   * Welford's algorithm, which does not lose precision when the coordinates
+   * are far from 0.
+   */
+  private double[] runningMeans;
+  private double[] crossProducts;
+  private double[] deviations;
+  private ProjectionStatistics projectionStatisticsLookasideBuffer;
+  /**
+   * The indices in the tree's points of the points in this node, in
+   * increasing order; computed on first use.
+   */
+  private volatile int[] memberIndices;
+  /**
+   * The number of indices translated at a time by
+   * {@link #projectOnto(double[], int[], int, int, double[], int)}.
+   */
+  private static final int indexChunkSize = 4096;
+  
+  private class NodeObserver implements Observer {
+    public void update(Observable o, Object typeOfChange) {
+      nodeChanged(typeOfChange);
+    }
+  }
+
+  private Observer nodeObserver = new NodeObserver();
+
+  ClassNode(ClassTree tree, ClassSplit parent, Node node) {
+    this.tree = tree;
+    this.parent = parent;
+    this.node = node;
+
+    node.addObserver(nodeObserver);
+    
+    Split split = node.getChild();
+    if (split != null)
+      child = new ClassSplit(tree, this, split);
+  }
+  
+  public ClassTree getTree() {
+    return tree;
+  }
+  
+  public ClassSplit getParent() {
+    return parent;
+  }
+  
+  public ClassSplit getChild() {
+    return child;
+  }
+  
+  public Node getNode() {
+    return node;
+  }
+  
+  public boolean containsPointAtIndex(int index) {
+    int serialNumber = node.getSerialNumber();
+    int pointClass = tree.getClasses()[index];
+    while (pointClass > serialNumber)
+      pointClass >>>= 1;
+    return pointClass == serialNumber;
+  }
+  
+  public int getDimensionCount() {
+    return tree.getPoints().getDimensionCount();
+  }
+  
+  public int getPointCount() {
+    return pointCount;
+  }
+  
+  private class NodePointIterator implements PointIterator {
+    private PointIterator iter = tree.getPoints().createIterator();
+    private int iterIndex = -1;
+    private int nextIndex = -1;
+
+    {
+      step();
+    }
+    
+    public boolean hasNext() {
+      return nextIndex < tree.getClasses().length;
+    }
+    
+    private void step() {
+      nextIndex++;
+      int serialNumber = node.getSerialNumber();
+      byte[] classes = tree.getClasses();
+      while (nextIndex < classes.length) {
+        int pointClass = classes[nextIndex] & 0xff;
+        while (pointClass > serialNumber)
+          pointClass >>>= 1;
+        if (pointClass == serialNumber)
+          break;
+        nextIndex++;
+      }
+    }
+    
+    public void next() {
+      while (iterIndex < nextIndex) {
+        iter.next();
+        iterIndex++;
+      }
+      step();
+    }
+    
+    public double getCoordinate(int index) {
+      return iter.getCoordinate(index);
+    }
+  }
+
+  public hicupp.PointIterator createIterator() {
+    return new NodePointIterator();
+  }
+  
+  private int[] getMemberIndices() {
+    int[] indices = memberIndices;
+    if (indices == null) {
+      indices = new int[pointCount];
+      int count = 0;
+      int serialNumber = node.getSerialNumber();
+      byte[] classes = tree.getClasses();
+      for (int i = 0; i < classes.length; i++) {
+        int pointClass = classes[i] & 0xff;
+        while (pointClass > serialNumber)
+          pointClass >>>= 1;
+        if (pointClass == serialNumber)
+          indices[count++] = i;
+      }
+      memberIndices = indices;
+    }
+    return indices;
+  }
+  
+  /**
+   * Projects the points in this node by passing their indices to the tree's
+   * points, rather than filtering them through a {@link PointIterator}.
+   */
+  public void projectOnto(double[] axis, int from, int to, double[] out, int offset) {
+    tree.getPoints().projectOnto(axis, getMemberIndices(), from, to, out, offset);
+  }
+  
+  /**
+   * Projects the members of this node with the given indices among the
+   * members, translating the indices a chunk at a time into indices of the
+   * tree's points.
+   */
+  public void projectOnto(double[] axis, int[] indices, int from, int to, double[] out, int offset) {
+    final int[] memberIndices = getMemberIndices();
+    final int[] chunk = new int[Math.min(indexChunkSize, to - from)];
+    for (int start = from; start < to; start += chunk.length) {
+      final int count = Math.min(chunk.length, to - start);
+      for (int k = 0; k < count; k++)
+        chunk[k] = memberIndices[indices[start + k]];
+      tree.getPoints().projectOnto(axis, chunk, 0, count, out, offset + start - from);
+    }
+  }
+  
+  public double getMean(int index) {
+    return sums[index] / pointCount;
+  }
+  
+  public double getCovariance(int index1, int index2) {
+    int j = Math.max(index1, index2);
+    int k = Math.min(index1, index2);
+    return crossProducts[j * (j + 1) / 2 + k] / pointCount;
+  }
+  
+  public double getStandardDeviation(int index) {
+    double mean = getMean(index);
+    return Math.sqrt(sumsOfSquares[index] / pointCount - mean * mean);
+  }
+
+  public ProjectionStatistics getProjectionStatisticsLookasideBuffer() {
+    return projectionStatisticsLookasideBuffer;
+  }
+  
+  public ProjectionStatistics computeProjectionStatistics(double[] axis) {
+    projectionStatisticsLookasideBuffer = new ProjectionStatistics(this, axis);
+    return projectionStatisticsLookasideBuffer;
+  }
+  
+  public void split(double[] axis) {
+    double threshold = computeProjectionStatistics(axis).getBestThreshold();
+    node.split(axis, threshold);
+  }
+  
+  void newPoints() {
+    pointCount = 0;
+    projectionStatisticsLookasideBuffer = null;
+    memberIndices = null;
+    int ndims = tree.getPoints().getDimensionCount();
+    sums = new double[ndims];
+    sumsOfSquares = new double[ndims];
+    runningMeans = new double[ndims];
+    crossProducts = new double[ndims * (ndims + 1) / 2];
+    deviations = new double[ndims];
+    
+    if (child != null)
+      child.newPoints();
+  }
+  
+  int addPointAndClassify(double[] point) {
+    pointCount++;
+    for (int j = 0; j < point.length; j++) {
+      sums[j] += point[j];
+      sumsOfSquares[j] += point[j] * point[j];
+    }
+    for (int j = 0; j < point.length; j++) {
+      deviations[j] = point[j] - runningMeans[j];
+      runningMeans[j] += deviations[j] / pointCount;
+    }
+    for (int j = 0, jk = 0; j < point.length; j++) {
+      double deviation = point[j] - runningMeans[j];
+      for (int k = 0; k <= j; k++, jk++)
+        crossProducts[jk] += deviation * deviations[k];
+    }
+    
+    if (child == null)
+      return node.getSerialNumber();
+    else
+      return child.addPointAndClassify(point);
+  }
+
+  private void nodeChanged(Object typeOfChange) {
+    if (typeOfChange == "Split") {
+      child = new ClassSplit(tree, this, node.getChild());
+      child.newPoints();
+      child.addParentPointsToChildren();
+    } else if (typeOfChange == "Prune")
+      child = null;
+    else
+      throw new RuntimeException("Unknown type of change.");
+    setChanged();
+    notifyObservers(typeOfChange);
+  }
+  
+  void notifySubtreeNodeObservers(Object info) {
+    setChanged();
+    notifyObservers(info);
+    if (child != null)
+      child.notifySubtreeNodeObservers(info);
+  }
+}
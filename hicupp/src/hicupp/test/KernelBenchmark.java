@@ -0,0 +1,80 @@
+package hicupp.test;
+
+import hicupp.*;
+
+import java.util.Random;
+
+/**
+ * Compares the speed of the tabulated Gaussian kernel
+ * ({@link GaussianKernelTable}) with that of the exact one; see
+ * {@link TestGaussianKernelTable} for its accuracy.
+ * <p>Usage: <code>java -p bin -m hicupp/hicupp.test.KernelBenchmark
+ * [pointCount [dimensionCount]]</code>. Prints the time per kernel term of
+ * either kernel, and the time per evaluation of Friedman's index with the
+ * exact density engine under either kernel, with the difference between
+ * the index values.</p>
+ */
+public class KernelBenchmark {
+  public static void main(String[] args) {
+    int pointCount = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+    int dimensionCount = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+    
+    Random random = new Random(1);
+    double[] values = new double[pointCount];
+    for (int i = 0; i < pointCount; i++)
+      values[i] = random.nextGaussian();
+    // Keep every term within the tabulated support, as the density engines
+    // only sum over the points within four bandwidths of each grid point.
+    double bandwidth = 2.0;
+    int centreCount = 200;
+    double exactSum = 0.0;
+    double tableSum = 0.0;
+    long exactTime = Long.MAX_VALUE;
+    long tableTime = Long.MAX_VALUE;
+    for (int round = 0; round < 5; round++) {
+      long start = System.nanoTime();
+      exactSum = 0.0;
+      for (int j = 0; j < centreCount; j++)
+        exactSum += sumOfGaussians(values, -2.0 + j * 0.02, bandwidth);
+      exactTime = Math.min(exactTime, System.nanoTime() - start);
+      start = System.nanoTime();
+      tableSum = 0.0;
+      for (int j = 0; j < centreCount; j++)
+        tableSum += GaussianKernelTable.sum(values, 0, pointCount, -2.0 + j * 0.02, bandwidth);
+      tableTime = Math.min(tableTime, System.nanoTime() - start);
+    }
+    double termCount = (double) pointCount * centreCount;
+    System.out.println("ns per term: exact " + exactTime / termCount + ", table " + tableTime / termCount +
+                       " (speedup " + (double) exactTime / tableTime + ", sums " + exactSum + ", " + tableSum + ")");
+    
+    double[] coords = new double[pointCount * dimensionCount];
+    for (int i = 0; i < coords.length; i++)
+      coords[i] = random.nextGaussian() + (i % dimensionCount == 0 && i / dimensionCount % 2 == 0 ? 3.0 : 0.0);
+    ProjectionIndexFunction function =
+      new ProjectionIndexFunction(ProjectionIndexFunction.FRIEDMANS_PROJECTION_INDEX, new ArraySetOfPoints(dimensionCount, coords));
+    double[] arguments = new double[dimensionCount - 1];
+    for (int i = 0; i < arguments.length; i++)
+      arguments[i] = (random.nextDouble() - 0.5) / dimensionCount;
+    double[] indexValues = new double[2];
+    long[] times = new long[2];
+    for (int kernel = 0; kernel < 2; kernel++) {
+      function.setKernel(kernel);
+      times[kernel] = Long.MAX_VALUE;
+      for (int round = 0; round < 5; round++) {
+        long start = System.nanoTime();
+        indexValues[kernel] = function.evaluate(arguments);
+        times[kernel] = Math.min(times[kernel], System.nanoTime() - start);
+      }
+    }
+    System.out.println("ms per evaluation: exact " + times[0] / 1e6 + ", table " + times[1] / 1e6 +
+                       " (speedup " + (double) times[0] / times[1] + ", index difference " +
+                       Math.abs(indexValues[0] - indexValues[1]) + " of " + indexValues[0] + ")");
+  }
+  
+  private static double sumOfGaussians(double[] values, double centre, double bandwidth) {
+    double sum = 0.0;
+    for (int i = 0; i < values.length; i++)
+      sum += ProjectionIndexFunction.kernel((centre - values[i]) / bandwidth);
+    return sum;
+  }
+}
@@ -0,0 +1,93 @@
+package hicupp.test;
+
+import hicupp.*;
+
+import java.util.Random;
+
+/**
+ * Tests {@link CachingFunctionWrapper}: values found in the cache equal the
+ * wrapped function's, and only argument lists not found, each once, reach
+ * the wrapped function.
+ * <p>Run the test from the command line using
+ * <code>java -p bin -m hicupp/hicupp.test.TestCachingFunctionWrapper</code>.</p>
+ */
+public class TestCachingFunctionWrapper {
+  /**
+   * Counts the argument lists it is evaluated at.
+   */
+  private static class CountingFunction implements Function {
+    private final Function function;
+    int evaluationCount;
+    
+    CountingFunction(Function function) {
+      this.function = function;
+    }
+    
+    public int getArgumentCount() {
+      return function.getArgumentCount();
+    }
+    
+    public double evaluate(double[] arguments) {
+      evaluationCount++;
+      return function.evaluate(arguments);
+    }
+    
+    public void evaluate(double[][] arguments, double[] values) {
+      evaluationCount += arguments.length;
+      function.evaluate(arguments, values);
+    }
+  }
+  
+  public static void main(String[] args) {
+    TestReport report = new TestReport("TestCachingFunctionWrapper");
+    Random random = new Random(1);
+    
+    final int ndims = 4;
+    double[] coords = new double[500 * ndims];
+    for (int i = 0; i < coords.length; i++)
+      coords[i] = random.nextGaussian() + (i % ndims == 0 && i % 3 == 0 ? 4.0 : 0.0);
+    Function index = new ProjectionIndexFunction(ProjectionIndexFunction.FRIEDMANS_PROJECTION_INDEX,
+                                                 new ArraySetOfPoints(ndims, coords));
+    CountingFunction counter = new CountingFunction(index);
+    CachingFunctionWrapper cache = new CachingFunctionWrapper(counter);
+    
+    double[] arguments = {0.3, -0.2, 0.5};
+    double expected = index.evaluate(arguments);
+    double first = cache.evaluate(arguments.clone());
+    double second = cache.evaluate(arguments.clone());
+    report.check("value of a miss", first == expected, first + " != " + expected);
+    report.check("value of a hit", second == expected, second + " != " + expected);
+    report.check("hit not evaluated", counter.evaluationCount == 1,
+                 counter.evaluationCount + " evaluations");
+    
+    double[] nearby = {0.3 + 1e-12, -0.2, 0.5};
+    cache.evaluate(nearby);
+    report.check("arguments within the resolution share an entry", counter.evaluationCount == 1,
+                 counter.evaluationCount + " evaluations");
+    
+    double[][] batch = {
+      {0.1, 0.1, 0.1},
+      arguments.clone(),
+      {0.1, 0.1, 0.1},
+      {-0.4, 0.2, 0.0},
+      {2.0, 0.0, 0.0}
+    };
+    double[] values = new double[batch.length];
+    counter.evaluationCount = 0;
+    cache.evaluate(batch, values);
+    report.check("batch evaluates each distinct miss once", counter.evaluationCount == 3,
+                 counter.evaluationCount + " evaluations");
+    boolean same = true;
+    for (int k = 0; k < batch.length; k++)
+      same &= values[k] == index.evaluate(batch[k]);
+    report.check("batch values", same, "a batch value differs from the function's");
+    
+    counter.evaluationCount = 0;
+    for (int k = 0; k < batch.length; k++)
+      same &= cache.evaluate(batch[k]) == values[k];
+    report.check("batch values found afterwards", same && counter.evaluationCount == 1,
+                 counter.evaluationCount + " evaluations");
+    
+    report.finish();
+  }
+}
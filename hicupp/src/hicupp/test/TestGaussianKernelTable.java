@@ -0,0 +1,58 @@
+package hicupp.test;
+
+import hicupp.GaussianKernelTable;
+import hicupp.ProjectionIndexFunction;
+
+import java.util.Random;
+
+/**
+ * Tests {@link GaussianKernelTable} against the exact standard normal
+ * density: over a fine sweep of [-5, 5], the error stays within the
+ * documented bound {@link GaussianKernelTable#maxError}, and the kernel
+ * sums agree with the sums of the tabulated values.
+ * <p>Run the test from the command line using
+ * <code>java -p bin -m hicupp/hicupp.test.TestGaussianKernelTable</code>.</p>
+ */
+public class TestGaussianKernelTable {
+  public static void main(String[] args) {
+    TestReport report = new TestReport("TestGaussianKernelTable");
+    
+    double maxError = 0.0;
+    double worst = 0.0;
+    for (int i = -5000000; i <= 5000000; i++) {
+      double z = i / 1000000.0;
+      double error = Math.abs(GaussianKernelTable.evaluate(z) - ProjectionIndexFunction.kernel(z));
+      if (error > maxError) {
+        maxError = error;
+        worst = z;
+      }
+    }
+    report.check("error within the documented bound", maxError <= GaussianKernelTable.maxError,
+                 "error " + maxError + " at " + worst + " exceeds " + GaussianKernelTable.maxError);
+    
+    double beyond = GaussianKernelTable.radius + 0.5;
+    report.check("exact beyond the table",
+                 GaussianKernelTable.evaluate(beyond) == ProjectionIndexFunction.kernel(beyond), "");
+    
+    Random random = new Random(1);
+    double[] values = new double[10000];
+    for (int i = 0; i < values.length; i++)
+      values[i] = random.nextGaussian() * 3.0;
+    double centre = 0.7;
+    double bandwidth = 0.4;
+    double sum = GaussianKernelTable.sum(values, 0, values.length, centre, bandwidth);
+    double expected = 0.0;
+    double exact = 0.0;
+    for (double value : values) {
+      expected += GaussianKernelTable.evaluate((centre - value) / bandwidth);
+      exact += ProjectionIndexFunction.kernel((centre - value) / bandwidth);
+    }
+    report.check("sum of tabulated values", Math.abs(sum - expected) <= 1e-12 * expected,
+                 sum + " != " + expected);
+    report.check("sum within the bound of the exact sum",
+                 Math.abs(sum - exact) <= values.length * GaussianKernelTable.maxError,
+                 "error " + Math.abs(sum - exact));
+    
+    report.finish();
+  }
+}
@@ -0,0 +1,66 @@
+package hicupp.test;
+
+import hicupp.*;
+
+import java.util.Random;
+
+/**
+ * Tests the fit of the Mixed index to a histogram of the projected values,
+ * as under the binned density engine: for samples from two normal
+ * components at several separations, the AIC of a {@link MixtureEstimator}
+ * fit to the bins of {@link ProjectionIndexFunction#binValues(double[], int,
+ * double[], double[], double[])} stays within a relative
+ * {@link #tolerance} of the AIC of a fit to the values themselves.
+ * <p>Separations of about one standard deviation are left out: there the
+ * likelihood has several local maxima of nearly the same height, so two
+ * fits can differ by more than the binning error whatever the engine.</p>
+ * <p>Run the test from the command line using
+ * <code>java -p bin -m hicupp/hicupp.test.TestMixtureBinning</code>.</p>
+ */
+public class TestMixtureBinning {
+  private static final double tolerance = 2e-4;
+  private static final int binCount = 512;
+  
+  public static void main(String[] args) {
+    TestReport report = new TestReport("TestMixtureBinning");
+    Random random = new Random(1);
+    
+    final int n = 20000;
+    double[] values = new double[n];
+    double[] centres = new double[binCount];
+    double[] weights = new double[binCount];
+    double[] spreads = new double[binCount];
+    double[] separations = {0.0, 2.0, 3.0, 4.0};
+    for (double separation : separations) {
+      for (int i = 0; i < n; i++)
+        values[i] = random.nextGaussian() + (i % 3 == 0 ? separation : 0.0);
+      standardize(values);
+      
+      MixtureEstimator exact = new MixtureEstimator(2, 8);
+      exact.fit(values, n);
+      
+      MixtureEstimator binned = new MixtureEstimator(2, 8);
+      int nonEmptyBinCount = ProjectionIndexFunction.binValues(values, binCount, centres, weights, spreads);
+      binned.fit(centres, weights, spreads, nonEmptyBinCount);
+      
+      double error = Math.abs(binned.getAic() - exact.getAic()) / Math.abs(exact.getAic());
+      report.check("binned AIC within tolerance (separation " + separation + ")", error <= tolerance,
+                   "binned " + binned.getAic() + ", exact " + exact.getAic() + ", relative error " + error);
+    }
+    
+    report.finish();
+  }
+  
+  private static void standardize(double[] values) {
+    double sum = 0.0;
+    double sumsq = 0.0;
+    for (double value : values) {
+      sum += value;
+      sumsq += value * value;
+    }
+    double mean = sum / values.length;
+    double standardDeviation = Math.sqrt(sumsq / values.length - mean * mean);
+    for (int i = 0; i < values.length; i++)
+      values[i] = (values[i] - mean) / standardDeviation;
+  }
+}
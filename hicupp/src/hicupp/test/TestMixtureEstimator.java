@@ -0,0 +1,70 @@
+package hicupp.test;
+
+import hicupp.*;
+
+import java.util.Random;
+
+/**
+ * Tests {@link MixtureEstimator}: it recovers the components of a mixture of
+ * two well-separated normal components, its AIC is consistent with its
+ * log-likelihood, its fit without the warm start does not depend on the
+ * values fitted before, and the Mixed index scales only the log-likelihood
+ * term of the AIC by the point weight.
+ * <p>Run the test from the command line using
+ * <code>java -p bin -m hicupp/hicupp.test.TestMixtureEstimator</code>.</p>
+ */
+public class TestMixtureEstimator {
+  public static void main(String[] args) {
+    TestReport report = new TestReport("TestMixtureEstimator");
+    Random random = new Random(1);
+    
+    final int n = 6000;
+    double[] values = new double[n];
+    for (int i = 0; i < n; i++)
+      values[i] = i % 3 == 0 ? 3.0 + random.nextGaussian() : -3.0 + random.nextGaussian();
+    
+    MixtureEstimator estimator = new MixtureEstimator(2, 4);
+    estimator.fit(values, n);
+    int left = estimator.getMean(0) < estimator.getMean(1) ? 0 : 1;
+    int right = 1 - left;
+    report.check("means", Math.abs(estimator.getMean(left) + 3.0) < 0.1 &&
+                          Math.abs(estimator.getMean(right) - 3.0) < 0.1,
+                 estimator.getMean(left) + ", " + estimator.getMean(right));
+    report.check("variances", Math.abs(estimator.getVariance(left) - 1.0) < 0.1 &&
+                              Math.abs(estimator.getVariance(right) - 1.0) < 0.1,
+                 estimator.getVariance(left) + ", " + estimator.getVariance(right));
+    report.check("mixing probabilities", Math.abs(estimator.getMixingProbability(left) - 2.0 / 3) < 0.02,
+                 estimator.getMixingProbability(left) + ", " + estimator.getMixingProbability(right));
+    double aic = -2 * estimator.getLogLikelihood() + 2 * estimator.getParameterCount();
+    report.check("AIC from the log-likelihood", Math.abs(estimator.getAic() - aic) < 1e-9 * Math.abs(aic),
+                 estimator.getAic() + " != " + aic);
+    
+    double firstAic = estimator.getAic();
+    double[] others = new double[n];
+    for (int i = 0; i < n; i++)
+      others[i] = random.nextGaussian() * (i % 2 == 0 ? 1.0 : 3.0);
+    estimator.fit(others, n);
+    estimator.fit(values, n);
+    report.check("fit independent of the previous fit", Math.abs(estimator.getAic() - firstAic) < 0.05,
+                 estimator.getAic() + " != " + firstAic);
+    
+    final int ndims = 2;
+    double[] coords = new double[n * ndims];
+    for (int i = 0; i < n; i++) {
+      coords[i * ndims] = values[i];
+      coords[i * ndims + 1] = random.nextGaussian();
+    }
+    ProjectionIndexFunction function =
+      new ProjectionIndexFunction(ProjectionIndexFunction.MIXED_PROJECTION_INDEX, new ArraySetOfPoints(ndims, coords));
+    double[] arguments = {1.0};
+    double unweighted = function.evaluate(arguments);
+    function.setPointWeight(2.0);
+    double weighted = function.evaluate(arguments);
+    double penalty = 2 * estimator.getParameterCount();
+    report.check("point weight scales the log-likelihood only",
+                 Math.abs(weighted - (2 * unweighted + penalty)) < 0.1,
+                 weighted + " != 2 * " + unweighted + " + " + penalty);
+    
+    report.finish();
+  }
+}
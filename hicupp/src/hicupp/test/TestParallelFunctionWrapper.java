@@ -0,0 +1,112 @@
+package hicupp.test;
+
+import hicupp.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests {@link ParallelFunctionWrapper}: the values of a batch evaluated on
+ * several threads equal those of the same argument lists evaluated one at a
+ * time on a single function, for each projection index whose value depends
+ * on the points alone; and copies created after the convergence measure
+ * went back up adapt to its smallest value, as the first copy did.
+ * <p>Run the test from the command line using
+ * <code>java -p bin -m hicupp/hicupp.test.TestParallelFunctionWrapper</code>.</p>
+ */
+public class TestParallelFunctionWrapper {
+  /**
+   * Evaluates to the smallest convergence measure it has been given.
+   */
+  private static class ConvergenceFunction implements Function, ConvergenceListener {
+    private double convergence = Double.POSITIVE_INFINITY;
+    
+    public int getArgumentCount() {
+      return 1;
+    }
+    
+    public double evaluate(double[] arguments) {
+      return convergence;
+    }
+    
+    public void evaluate(double[][] arguments, double[] values) {
+      for (int k = 0; k < arguments.length; k++)
+        values[k] = convergence;
+    }
+    
+    public boolean convergenceChanged(double convergence) {
+      if (convergence >= this.convergence)
+        return false;
+      this.convergence = convergence;
+      return true;
+    }
+  }
+  
+  public static void main(String[] args) {
+    TestReport report = new TestReport("TestParallelFunctionWrapper");
+    Random random = new Random(1);
+    
+    final int ndims = 5;
+    final int npoints = 3000;
+    double[] coords = new double[ndims * npoints];
+    for (int i = 0; i < coords.length; i++)
+      coords[i] = random.nextGaussian() + (i % ndims == 0 && i / ndims % 3 == 0 ? 4.0 : 0.0);
+    final SetOfPoints points = new ArraySetOfPoints(ndims, coords);
+    
+    double[][] arguments = new double[37][ndims - 1];
+    for (int k = 0; k < arguments.length; k++) {
+      double sumOfSquares = 0.0;
+      for (int j = 0; j < ndims - 1; j++) {
+        arguments[k][j] = random.nextGaussian();
+        sumOfSquares += arguments[k][j] * arguments[k][j];
+      }
+      double scale = random.nextDouble() / Math.sqrt(sumOfSquares);
+      for (int j = 0; j < ndims - 1; j++)
+        arguments[k][j] *= scale;
+    }
+    
+    ParallelEvaluator evaluator = new ParallelEvaluator(4);
+    String[] names = ProjectionIndexFunction.getProjectionIndexNames();
+    for (int index = 0; index < names.length; index++) {
+      // The Mixed index fits its mixture from random starts.
+      if (index == 1)
+        continue;
+      final int projectionIndex = index;
+      Function serial = new ProjectionIndexFunction(projectionIndex, points);
+      Function parallel = new ParallelFunctionWrapper(
+        () -> new ProjectionIndexFunction(projectionIndex, points), evaluator);
+      
+      double[] values = new double[arguments.length];
+      parallel.evaluate(arguments, values);
+      boolean same = true;
+      String message = "";
+      for (int k = 0; k < arguments.length && same; k++) {
+        double value = serial.evaluate(arguments[k]);
+        if (value != values[k]) {
+          same = false;
+          message = "argument list " + k + ": " + values[k] + " != " + value;
+        }
+      }
+      report.check("parallel batch equals serial evaluations (" + names[index] + ")", same, message);
+    }
+    
+    Function adapting = new ParallelFunctionWrapper(ConvergenceFunction::new, evaluator);
+    ((ConvergenceListener) adapting).convergenceChanged(0.01);
+    ((ConvergenceListener) adapting).convergenceChanged(0.5);
+    double[] convergences = new double[8];
+    adapting.evaluate(new double[convergences.length][1], convergences);
+    boolean smallest = true;
+    for (int k = 0; k < convergences.length; k++)
+      smallest &= convergences[k] == 0.01;
+    report.check("later copies adapt to the smallest convergence", smallest,
+                 Arrays.toString(convergences));
+    
+    report.check("one shared evaluator per parallelism",
+                 ParallelEvaluator.getShared(3) == ParallelEvaluator.getShared(3) &&
+                 ParallelEvaluator.getShared(2).getParallelism() == 2 &&
+                 ParallelEvaluator.getShared(3).getParallelism() == 3,
+                 "getShared returned a different evaluator");
+    
+    report.finish();
+  }
+}
@@ -0,0 +1,38 @@
+package hicupp.test;
+
+/**
+ * Counts and prints the outcomes of the checks made by a test, in the
+ * manner of {@link Jama.test.TestMatrix}.
+ */
+final class TestReport {
+  private final String testName;
+  private int errorCount;
+  
+  TestReport(String testName) {
+    this.testName = testName;
+  }
+  
+  /**
+   * Records the outcome of a check.
+   * @param message Printed if the check failed.
+   */
+  void check(String description, boolean success, String message) {
+    if (success)
+      System.out.print(">    " + description + "... success\n");
+    else {
+      System.out.print(">    " + description + "... *** failure ***\n>      Message: " + message + "\n");
+      errorCount++;
+    }
+  }
+  
+  /**
+   * Prints the number of failed checks, and exits with a non-zero status if
+   * there were any.
+   */
+  void finish() {
+    System.out.print("\n" + testName + " completed.\n");
+    System.out.print("Total errors reported: " + errorCount + "\n");
+    if (errorCount > 0)
+      System.exit(1);
+  }
+}
@@ -0,0 +1,72 @@
+package hicupp.test;
+
+import hicupp.Sorter;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests {@link Sorter#select(double[], int, int, int)} against sorting, on
+ * random values, on values with many ties, and on sorted and reversed
+ * values.
+ * <p>Run the test from the command line using
+ * <code>java -p bin -m hicupp/hicupp.test.TestSorter</code>.</p>
+ */
+public class TestSorter {
+  public static void main(String[] args) {
+    TestReport report = new TestReport("TestSorter");
+    Random random = new Random(1);
+    
+    int[] sizes = {1, 2, 3, 10, 101, 1000};
+    String[] kinds = {"random", "ties", "sorted", "reversed"};
+    for (int kind = 0; kind < kinds.length; kind++) {
+      for (int size : sizes) {
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+          switch (kind) {
+            case 0: values[i] = random.nextGaussian(); break;
+            case 1: values[i] = random.nextInt(3); break;
+            case 2: values[i] = i; break;
+            default: values[i] = size - i; break;
+          }
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        
+        boolean same = true;
+        String message = "";
+        for (int k = 0; k < size && same; k++) {
+          double selected = Sorter.select(values.clone(), 0, size - 1, k);
+          if (selected != sorted[k]) {
+            same = false;
+            message = "item " + k + ": " + selected + " != " + sorted[k];
+          }
+        }
+        report.check("select matches sorting (" + kinds[kind] + ", " + size + " values)", same, message);
+      }
+    }
+    
+    double[] values = new double[1000];
+    for (int i = 0; i < values.length; i++)
+      values[i] = random.nextGaussian();
+    double[] sorted = values.clone();
+    Arrays.sort(sorted);
+    double[] partitioned = values.clone();
+    int k = 250;
+    Sorter.select(partitioned, 0, partitioned.length - 1, k);
+    boolean partitionedAround = true;
+    for (int i = 0; i < partitioned.length; i++)
+      partitionedAround &= i < k ? partitioned[i] <= sorted[k] : partitioned[i] >= sorted[k];
+    report.check("select partitions around the item", partitionedAround,
+                 "an item is on the wrong side of item " + k);
+    
+    double[] range = values.clone();
+    double selected = Sorter.select(range, 200, 799, 500);
+    double[] rangeSorted = Arrays.copyOfRange(values, 200, 800);
+    Arrays.sort(rangeSorted);
+    report.check("select within a range", selected == rangeSorted[300],
+                 selected + " != " + rangeSorted[300]);
+    
+    report.finish();
+  }
+}
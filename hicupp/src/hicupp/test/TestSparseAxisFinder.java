@@ -0,0 +1,54 @@
+package hicupp.test;
+
+import hicupp.*;
+
+import java.util.Random;
+
+/**
+ * Tests that {@link SparseAxisFinder#findAxis} returns a unit axis with no
+ * more non-zero coordinates than the cardinality asked for, on points whose
+ * only structure is two clusters along one column.
+ * <p>Run the test from the command line using
+ * <code>java -p bin -m hicupp/hicupp.test.TestSparseAxisFinder</code>.</p>
+ */
+public class TestSparseAxisFinder {
+  public static void main(String[] args) throws NoConvergenceException, CancellationException {
+    TestReport report = new TestReport("TestSparseAxisFinder");
+    Random random = new Random(1);
+    
+    final int ndims = 6;
+    final int npoints = 2000;
+    final int clustered = 2;
+    double[] coords = new double[ndims * npoints];
+    for (int i = 0; i < npoints; i++)
+      for (int j = 0; j < ndims; j++)
+        coords[i * ndims + j] = random.nextGaussian() +
+                                (j == clustered ? (i % 2 == 0 ? 3.0 : -3.0) : 0.0);
+    SetOfPoints points = new ArraySetOfPoints(ndims, coords);
+    
+    SparseAxisFinder.Factory factory =
+      subset -> new ProjectionIndexFunction(ProjectionIndexFunction.FRIEDMANS_PROJECTION_INDEX, subset);
+    SparseAxisFinder.Maximizer maximizer =
+      function -> FunctionMaximizer.maximize(function, FunctionMaximizer.SIMPLEX_ALGORITHM_INDEX,
+                                             null, null);
+    
+    for (int cardinality = 1; cardinality <= 4; cardinality++) {
+      double[] axis = SparseAxisFinder.findAxis(points, cardinality, factory, maximizer, null);
+      int nonZeroCount = 0;
+      double sumOfSquares = 0.0;
+      for (int j = 0; j < ndims; j++) {
+        if (axis[j] != 0.0)
+          nonZeroCount++;
+        sumOfSquares += axis[j] * axis[j];
+      }
+      report.check("at most " + cardinality + " non-zero coordinates", nonZeroCount <= cardinality,
+                   nonZeroCount + " non-zero coordinates");
+      report.check("unit axis (cardinality " + cardinality + ")",
+                   Math.abs(sumOfSquares - 1.0) < 1e-9, "squared length " + sumOfSquares);
+      report.check("clustered column selected (cardinality " + cardinality + ")",
+                   Math.abs(axis[clustered]) > 0.9, "axis[" + clustered + "] = " + axis[clustered]);
+    }
+    
+    report.finish();
+  }
+}
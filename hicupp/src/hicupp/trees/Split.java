@@ -1,110 +1,140 @@
-package hicupp.trees;
-
-import java.util.ArrayList;
-import java.util.Observable;
-
-public final class Split extends Observable {
-  private final Tree tree;
-  private final Node parent;
-  private final Node leftChild;
-  private final Node rightChild;
-  private final double[] axis;
-  private double threshold;
-
-  private int splitProjectionIndex;
-  private int optimisationAlgorithmIndex;
-  private int splitIterations;
-
-  Split(Tree tree, Node parent, double[] axis, double threshold) {
-    this.tree = tree;
-    this.parent = parent;
-    this.axis = axis;
-    this.threshold = threshold;
-    int leftChildSerialNumber = 2 * parent.getSerialNumber();
-    leftChild = new Node(tree, this, leftChildSerialNumber);
-    rightChild = new Node(tree, this, leftChildSerialNumber + 1);
-
-    splitProjectionIndex = -1;
-    optimisationAlgorithmIndex = -1;
-    splitIterations = 0;
-  }
-  
-  public Node getParent() {
-    return parent;
-  }
-
-  public Node getLeftChild() {
-    return leftChild;
-  }
-
-  public Node getRightChild() {
-    return rightChild;
-  }
-
-  public double[] getAxis() {
-    return axis.clone();
-  }
-  
-  public double getThreshold() {
-	  return threshold;
-  }
-  
-  public void setThreshold(double value) {
-    threshold = value;
-    setChanged();
-    notifyObservers();
-    tree.changed();
-  }
-  
-  public double evaluate(double[] coords, int index) {
-    double value = 0.0;
-    for (double axi : axis) value += coords[index++] * axi;
-    return value;
-  }
-
-  public double evaluate(double[] point) {
-    return evaluate(point, 0);
-  }
-  
-  public boolean classify(double[] coords, int index) {
-    return evaluate(coords, index) < threshold;
-  }
-  
-  public boolean classify(double[] point) {
-    return classify(point, 0);
-  }
-  
-  public boolean isLeafSplit() {
-    return leftChild.getChild() == null && rightChild.getChild() == null;
-  }
-  
-  public int computeClass(double[] point, int index) {
-    return (classify(point, index) ?
-            leftChild :
-            rightChild).computeClass(point, index);
-  }
-
-  public int getSplitProjectionIndex() {
-    return splitProjectionIndex;
-  }
-
-  public void setSplitProjectionIndex(int splitProjectionIndex) {
-    this.splitProjectionIndex = splitProjectionIndex;
-  }
-
-  public int getSplitIterations() {
-    return splitIterations;
-  }
-
-  public void setSplitIterations(int splitIterations) {
-    this.splitIterations = splitIterations;
-  }
-
-  public int getOptimisationAlgorithmIndex() {
-    return optimisationAlgorithmIndex;
-  }
-
-  public void setOptimisationAlgorithmIndex(int optimisationAlgorithmIndex) {
-    this.optimisationAlgorithmIndex = optimisationAlgorithmIndex;
-  }
+package hicupp.trees;
+
+import java.util.ArrayList;
+import java.util.Observable;
+
+public final class Split extends Observable {
+  private final Tree tree;
+  private final Node parent;
+  private final Node leftChild;
+  private final Node rightChild;
+  private final double[] axis;
+  /**
+   * The indices of the non-zero coordinates of the axis, if they are fewer
+   * than half of them, so that points can be projected onto a sparse axis
+   * without visiting the other coordinates; otherwise <code>null</code>.
+   */
+  private final int[] support;
+  private double threshold;
+
+  private int splitProjectionIndex;
+  private int optimisationAlgorithmIndex;
+  private int splitIterations;
+  private int kernelIndex;
+
+  Split(Tree tree, Node parent, double[] axis, double threshold) {
+    this.tree = tree;
+    this.parent = parent;
+    this.axis = axis;
+    this.threshold = threshold;
+    int nonZeroCount = 0;
+    for (double axi : axis)
+      if (axi != 0.0)
+        nonZeroCount++;
+    if (2 * nonZeroCount < axis.length) {
+      support = new int[nonZeroCount];
+      for (int i = 0, k = 0; i < axis.length; i++)
+        if (axis[i] != 0.0)
+          support[k++] = i;
+    } else
+      support = null;
+    int leftChildSerialNumber = 2 * parent.getSerialNumber();
+    leftChild = new Node(tree, this, leftChildSerialNumber);
+    rightChild = new Node(tree, this, leftChildSerialNumber + 1);
+
+    splitProjectionIndex = -1;
+    optimisationAlgorithmIndex = -1;
+    splitIterations = 0;
+    kernelIndex = -1;
+  }
+  
+  public Node getParent() {
+    return parent;
+  }
+
+  public Node getLeftChild() {
+    return leftChild;
+  }
+
+  public Node getRightChild() {
+    return rightChild;
+  }
+
+  public double[] getAxis() {
+    return axis.clone();
+  }
+  
+  public double getThreshold() {
+	  return threshold;
+  }
+  
+  public void setThreshold(double value) {
+    threshold = value;
+    setChanged();
+    notifyObservers();
+    tree.changed();
+  }
+  
+  public double evaluate(double[] coords, int index) {
+    double value = 0.0;
+    if (support != null)
+      for (int i : support) value += coords[index + i] * axis[i];
+    else
+      for (double axi : axis) value += coords[index++] * axi;
+    return value;
+  }
+
+  public double evaluate(double[] point) {
+    return evaluate(point, 0);
+  }
+  
+  public boolean classify(double[] coords, int index) {
+    return evaluate(coords, index) < threshold;
+  }
+  
+  public boolean classify(double[] point) {
+    return classify(point, 0);
+  }
+  
+  public boolean isLeafSplit() {
+    return leftChild.getChild() == null && rightChild.getChild() == null;
+  }
+  
+  public int computeClass(double[] point, int index) {
+    return (classify(point, index) ?
+            leftChild :
+            rightChild).computeClass(point, index);
+  }
+
+  public int getSplitProjectionIndex() {
+    return splitProjectionIndex;
+  }
+
+  public void setSplitProjectionIndex(int splitProjectionIndex) {
+    this.splitProjectionIndex = splitProjectionIndex;
+  }
+
+  public int getSplitIterations() {
+    return splitIterations;
+  }
+
+  public void setSplitIterations(int splitIterations) {
+    this.splitIterations = splitIterations;
+  }
+
+  public int getOptimisationAlgorithmIndex() {
+    return optimisationAlgorithmIndex;
+  }
+
+  public void setOptimisationAlgorithmIndex(int optimisationAlgorithmIndex) {
+    this.optimisationAlgorithmIndex = optimisationAlgorithmIndex;
+  }
+
+  public int getKernelIndex() {
+    return kernelIndex;
+  }
+
+  public void setKernelIndex(int kernelIndex) {
+    this.kernelIndex = kernelIndex;
+  }
 }
\ No newline at end of file
@@ -28,10 +28,7 @@ public final class AlgorithmParametersUI {
             case FunctionMaximizer.ANNEALING_ALGORITHM_INDEX -> AnnealingUI.create(treeDocument, response);
             case FunctionMaximizer.GENETIC_ALGORITHM_INDEX -> GeneticUI.create(treeDocument, response);
             case FunctionMaximizer.GRADIENT_ALGORITHM_INDEX -> GradientUI.create(treeDocument, response);
-            default -> {
-                response.confirm();
-                treeDocument.setAlgorithmParameters(null);
-            }
+            default -> KernelUI.create(treeDocument, response);
         }
     }
 
@@ -40,6 +37,8 @@ public final class AlgorithmParametersUI {
         AlgorithmParameters parameters = treeDocument.getAlgorithmParameters();
 
         if (log != null) {
+            log.append("Kernel: " +
+                       ProjectionIndexFunction.getKernelNames()[treeDocument.getSearchOptions().kernel()] + "\n");
             log.append("Parameters: ");
 
             switch (treeDocument.getAlgorithmIndex()) {
@@ -114,6 +113,9 @@ public final class AlgorithmParametersUI {
             String maxTime = Double.toString((initNumberOfIterations + 1) * evaluationTime / 1000d);
             labelMaxTime = new JLabel("Estimate maximum time: " + maxTime + " s", JLabel.LEFT);
 
+            final JLabel labelKernel = new JLabel("Kernel: ", JLabel.RIGHT);
+            final JComboBox<String> kernelChoice = createKernelChoice(treeDocument);
+
             final JButton ok = new JButton("Ok");
             final JButton cancel = new JButton("Cancel");
 
@@ -184,6 +186,7 @@ public final class AlgorithmParametersUI {
                                         numberOfIterations,
                                         convergeAtMaxEquals,
                                         maxEquals));
+                        treeDocument.setKernel(kernelChoice.getSelectedIndex());
                         response.confirm();
                         dialog.dispose();
                     }
@@ -194,6 +197,8 @@ public final class AlgorithmParametersUI {
             });
 
             // organisation
+            dialog.add(labelKernel);
+            dialog.add(kernelChoice);
             dialog.add(labelIterations);
             dialog.add(fieldIterations);
             dialog.add(checkboxConverge);
@@ -207,7 +212,7 @@ public final class AlgorithmParametersUI {
             dialog.add(ok);
             dialog.add(cancel);
 
-            dialog.setLayout(new GridLayout(6, 2, 8, 8));
+            dialog.setLayout(new GridLayout(7, 2, 8, 8));
 
             showDialog(dialog, frame, response);
         }
@@ -342,6 +347,9 @@ public final class AlgorithmParametersUI {
 
             getEstimates();
 
+            final JLabel labelKernel = new JLabel("Kernel: ", JLabel.RIGHT);
+            final JComboBox<String> kernelChoice = createKernelChoice(treeDocument);
+
             final JButton ok = new JButton("Ok");
             final JButton cancel = new JButton("Cancel");
 
@@ -469,6 +477,7 @@ public final class AlgorithmParametersUI {
                                         spawns,
                                         converge,
                                         maxEquals));
+                        treeDocument.setKernel(kernelChoice.getSelectedIndex());
                         response.confirm();
                         dialog.dispose();
                     }
@@ -479,6 +488,8 @@ public final class AlgorithmParametersUI {
             });
 
             // organisation
+            dialog.add(labelKernel);
+            dialog.add(kernelChoice);
             dialog.add(labelPopulation);
             dialog.add(fieldPopulation);
             dialog.add(labelGens);
@@ -498,7 +509,7 @@ public final class AlgorithmParametersUI {
             dialog.add(ok);
             dialog.add(cancel);
 
-            dialog.setLayout(new GridLayout(9, 2, 8, 8));
+            dialog.setLayout(new GridLayout(10, 2, 8, 8));
 
             showDialog(dialog, frame, response);
         }
@@ -639,6 +650,9 @@ public final class AlgorithmParametersUI {
             getMinimumEstimates();
             getMaximumEstimates();
 
+            final JLabel labelKernel = new JLabel("Kernel: ", JLabel.RIGHT);
+            final JComboBox<String> kernelChoice = createKernelChoice(treeDocument);
+
             final JButton ok = new JButton("Ok");
             final JButton cancel = new JButton("Cancel");
 
@@ -736,6 +750,7 @@ public final class AlgorithmParametersUI {
                                         maxEquals
                                 )
                         );
+                        treeDocument.setKernel(kernelChoice.getSelectedIndex());
                         response.confirm();
                         dialog.dispose();
                     }
@@ -746,6 +761,8 @@ public final class AlgorithmParametersUI {
             });
 
             // organisation
+            dialog.add(labelKernel);
+            dialog.add(kernelChoice);
             dialog.add(labelIterations);
             dialog.add(fieldIterations);
             dialog.add(labelSolutions);
@@ -761,7 +778,7 @@ public final class AlgorithmParametersUI {
             dialog.add(ok);
             dialog.add(cancel);
 
-            dialog.setLayout(new GridLayout(7, 2, 8, 8));
+            dialog.setLayout(new GridLayout(8, 2, 8, 8));
 
             showDialog(dialog, frame, response);
         }
@@ -826,6 +843,64 @@ public final class AlgorithmParametersUI {
         }
     }
 
+    /**
+     * Chooses the kernel alone, for the algorithms without parameters.
+     */
+    private static class KernelUI {
+
+        public KernelUI(TreeDocument treeDocument, Response response) {
+            Frame frame = treeDocument.getFrame();
+
+            // UI
+            JDialog dialog = new JDialog(frame, "Kernel", true);
+
+            JLabel labelKernel = new JLabel("Kernel: ", JLabel.RIGHT);
+            JComboBox<String> kernelChoice = createKernelChoice(treeDocument);
+
+            final JButton ok = new JButton("Ok");
+            final JButton cancel = new JButton("Cancel");
+
+            // events
+            cancel.addActionListener(e -> {
+                dialog.dispose();
+                response.cancel();
+            });
+
+            ok.addActionListener(e -> {
+                treeDocument.setAlgorithmParameters(null);
+                treeDocument.setKernel(kernelChoice.getSelectedIndex());
+                response.confirm();
+                dialog.dispose();
+            });
+
+            // organisation
+            dialog.add(labelKernel);
+            dialog.add(kernelChoice);
+            dialog.add(ok);
+            dialog.add(cancel);
+
+            dialog.setLayout(new GridLayout(2, 2, 8, 8));
+
+            showDialog(dialog, frame, response);
+        }
+
+        public static void create(TreeDocument treeDocument, Response response) {
+            new KernelUI(treeDocument, response);
+        }
+    }
+
+    /**
+     * Creates the choice of the kernel that the density-based projection
+     * indices smooth the projections with; it is disabled under the other
+     * indices, which use no kernel.
+     */
+    private static JComboBox<String> createKernelChoice(TreeDocument treeDocument) {
+        JComboBox<String> kernelChoice = new JComboBox<>(ProjectionIndexFunction.getKernelNames());
+        kernelChoice.setSelectedIndex(treeDocument.getSearchOptions().kernel());
+        kernelChoice.setEnabled(ProjectionIndexFunction.usesDensity(treeDocument.getProjectionIndex()));
+        return kernelChoice;
+    }
+
     private static void showDialog(Dialog dialog, Frame frame, Response response) {
         dialog.addWindowListener(new WindowAdapter() {
             @Override
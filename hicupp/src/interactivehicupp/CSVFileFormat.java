@@ -1,18 +1,38 @@
 package interactivehicupp;
 
 import java.io.*;
-import java.util.ArrayList;
+import java.util.Arrays;
 
 public class CSVFileFormat {
     private String[] parameters;
-    private ArrayList<ArrayList<Double>> data;
+    private final boolean singlePrecision;
+    /**
+     * The values of each column, in <code>data</code>, or in
+     * <code>floatData</code> when reading in single precision; each holds
+     * <code>numberOfPoints</code> values followed by spare capacity.
+     */
+    private double[][] data;
+    private float[][] floatData;
+    private int numberOfPoints;
 
     public CSVFileFormat(String file, boolean firstLineParameter) throws IOException {
+        this(file, firstLineParameter, false);
+    }
+
+    /**
+     * @param singlePrecision If <code>true</code>, each value is parsed
+     *                        directly into single precision, and only
+     *                        {@link #getFloatCoordinatesFromChosenColumns(int[])}
+     *                        may be called.
+     */
+    public CSVFileFormat(String file, boolean firstLineParameter, boolean singlePrecision) throws IOException {
+        this.singlePrecision = singlePrecision;
         BufferedReader reader = new BufferedReader(new FileReader(file));
         read(reader, firstLineParameter);
     }
 
     public CSVFileFormat(String text) throws IOException {
+        singlePrecision = false;
         Reader inputString = new StringReader(text);
         BufferedReader reader = new BufferedReader(inputString);
         read(reader, true);
@@ -29,51 +49,63 @@ public class CSVFileFormat {
 
             if (lineNumber == 0) {   // first line
                 numberOfDimensions = values.length;
-                data = new ArrayList<>(numberOfDimensions);
+                if (singlePrecision)
+                    floatData = new float[numberOfDimensions][1024];
+                else
+                    data = new double[numberOfDimensions][1024];
 
-                if (firstLineParameter) {
+                if (firstLineParameter)
                     parameters = values;
-
-                    for (int i = 0; i < numberOfDimensions; i++)
-                        data.add(new ArrayList<>());
-                }
                 else {
                     parameters = new String[numberOfDimensions];
 
-                    for (int i = 0; i < numberOfDimensions; i++) {
+                    for (int i = 0; i < numberOfDimensions; i++)
                         parameters[i] = "p" + i;        // default parameter name
-
-                        ArrayList<Double> newDimension = new ArrayList<>();
-                        try {
-                            newDimension.add(Double.parseDouble(values[i]));    // add first value
-                        } catch (NumberFormatException | NullPointerException e) {
-                            throw new IOException("Invalid number format in line " + lineNumber + 1 +
-                                    ", column " + i + 1 + ".");
-                        }
-                        data.add(newDimension);
-                    }
+                    addPoint(values, lineNumber);      // add first values
                 }
             } else {    // other lines
                 if (numberOfDimensions != values.length)
                     throw new IOException("Different number of dimensions in line " + lineNumber + 1);
 
-                for (int i = 0; i < numberOfDimensions; i++) {
-                    try {
-                        ArrayList<Double> currentDimension = data.get(i);
-                        currentDimension.add(Double.parseDouble(values[i]));
-                    } catch (NumberFormatException | NullPointerException e) {
-                        throw new IOException("Invalid number format in line " + lineNumber + 1 +
-                                ", column " + i + 1 + ".");
-                    }
-                }
+                addPoint(values, lineNumber);
             }
 
             lineNumber++;
         }
     }
 
+    private void addPoint(String[] values, int lineNumber) throws IOException {
+        int capacity = singlePrecision ? floatData[0].length : data[0].length;
+        if (numberOfPoints == capacity) {
+            capacity += capacity >> 1;
+            for (int i = 0; i < values.length; i++) {
+                if (singlePrecision)
+                    floatData[i] = Arrays.copyOf(floatData[i], capacity);
+                else
+                    data[i] = Arrays.copyOf(data[i], capacity);
+            }
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            try {
+                if (singlePrecision)
+                    floatData[i][numberOfPoints] = Float.parseFloat(values[i]);
+                else
+                    data[i][numberOfPoints] = Double.parseDouble(values[i]);
+            } catch (NumberFormatException | NullPointerException e) {
+                throw new IOException("Invalid number format in line " + lineNumber + 1 +
+                        ", column " + i + 1 + ".");
+            }
+        }
+        numberOfPoints++;
+    }
+
+    public boolean isSinglePrecision() {
+        return singlePrecision;
+    }
+
     public int getNumberOfPoints() {
-        return data.get(0).size();
+        return numberOfPoints;
     }
 
     public String[] getParameters() {
@@ -81,13 +113,25 @@ public class CSVFileFormat {
     }
 
     public double[] getCoordinatesFromChosenColumns(int[] chosenColumns) {
-        ArrayList<Double> coordinates = new ArrayList<>(getNumberOfPoints() * chosenColumns.length);
+        double[] coordinates = new double[numberOfPoints * chosenColumns.length];
 
-        for (int chosenColumn : chosenColumns) {
-            coordinates.addAll(data.get(chosenColumn));
-        }
+        for (int i = 0; i < chosenColumns.length; i++)
+            System.arraycopy(data[chosenColumns[i]], 0, coordinates, i * numberOfPoints, numberOfPoints);
+
+        return coordinates;
+    }
+
+    /**
+     * Returns the coordinates like {@link #getCoordinatesFromChosenColumns(int[])},
+     * in single precision.
+     */
+    public float[] getFloatCoordinatesFromChosenColumns(int[] chosenColumns) {
+        float[] coordinates = new float[numberOfPoints * chosenColumns.length];
+
+        for (int i = 0; i < chosenColumns.length; i++)
+            System.arraycopy(floatData[chosenColumns[i]], 0, coordinates, i * numberOfPoints, numberOfPoints);
 
-        return coordinates.stream().mapToDouble(Double::doubleValue).toArray();
+        return coordinates;
     }
 
     public String[] getChosenParameters(int[] chosenColumns) {
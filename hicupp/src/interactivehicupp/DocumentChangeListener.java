@@ -1,5 +1,5 @@
-package interactivehicupp;
-
-public interface DocumentChangeListener {
-  void documentChanged();
-}
+package interactivehicupp;
+
+public interface DocumentChangeListener {
+  void documentChanged();
+}
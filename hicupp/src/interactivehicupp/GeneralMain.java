@@ -1,9 +1,9 @@
-package interactivehicupp;
-
-import java.awt.*;
-
-public class GeneralMain {
-  public static void main(String[] args) {
-    EventQueue.invokeLater(() -> TreeDocumentFrame.showTreeDocumentFrame(1, false));
-  }
-}
+package interactivehicupp;
+
+import java.awt.*;
+
+public class GeneralMain {
+  public static void main(String[] args) {
+    EventQueue.invokeLater(() -> TreeDocumentFrame.showTreeDocumentFrame(1, false));
+  }
+}
@@ -1,5 +1,5 @@
-package interactivehicupp;
-
-public class ImageNodeView
-{
-}
+package interactivehicupp;
+
+public class ImageNodeView
+{
+}
@@ -1,4 +1,4 @@
-package interactivehicupp;
-
-public class ImagePointsSource {
-}
+package interactivehicupp;
+
+public class ImagePointsSource {
+}
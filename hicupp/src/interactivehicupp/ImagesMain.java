@@ -1,9 +1,9 @@
-package interactivehicupp;
-
-import java.awt.*;
-
-public class ImagesMain {
-  public static void main(String[] args) {
-    EventQueue.invokeLater(() ->TreeDocumentFrame.showTreeDocumentFrame(0, false));
-  }
-}
+package interactivehicupp;
+
+import java.awt.*;
+
+public class ImagesMain {
+  public static void main(String[] args) {
+    EventQueue.invokeLater(() ->TreeDocumentFrame.showTreeDocumentFrame(0, false));
+  }
+}
@@ -18,6 +18,7 @@ public class LoadCSVDialog extends LoadDialog {
 
     private int columnsCount;
     private double[] coords;
+    private float[] floatCoords;
     private final Frame parent;
     private CSVFileFormat reader;
     private String[] parameterNames;
@@ -27,6 +28,11 @@ public class LoadCSVDialog extends LoadDialog {
         return coords;
     }
 
+    @Override
+    public float[] getFloatCoords() {
+        return floatCoords;
+    }
+
     @Override
     public int getColumnsCount() {
         return columnsCount;
@@ -62,8 +68,8 @@ public class LoadCSVDialog extends LoadDialog {
     @Override
     public void load(String filename, int skipFirstLine, int[] chosenColumns) {
         try {
-            reader = new CSVFileFormat(filename, skipFirstLine == 1);
-            coords = reader.getCoordinatesFromChosenColumns(chosenColumns);
+            reader = new CSVFileFormat(filename, skipFirstLine == 1, isSinglePrecision());
+            readCoords(chosenColumns);
             columnsCount = chosenColumns.length;
             parameterNames = reader.getChosenParameters(chosenColumns);
 
@@ -102,6 +108,7 @@ public class LoadCSVDialog extends LoadDialog {
         addWindowListener(new WindowAdapter() {
             public void windowClosing(WindowEvent e) {
                 coords = null;
+                floatCoords = null;
                 setVisible(false);
             }
         });
@@ -159,6 +166,7 @@ public class LoadCSVDialog extends LoadDialog {
         JButton cancelButton = new JButton("Cancel");
         cancelButton.addActionListener(e -> {
             coords = null;
+            floatCoords = null;
             setVisible(false);
         });
 
@@ -175,7 +183,7 @@ public class LoadCSVDialog extends LoadDialog {
     private void readFile() {
         try {
             boolean firstLineParameter = parameterFirstLineCheckBox.isSelected();
-            reader = new CSVFileFormat(dataFileTextField.getText(), firstLineParameter);
+            reader = new CSVFileFormat(dataFileTextField.getText(), firstLineParameter, isSinglePrecision());
 
             columnsList.removeAll();
             columnsList.setListData(reader.getParameters());
@@ -186,6 +194,7 @@ public class LoadCSVDialog extends LoadDialog {
             dataFileTextField.setText("");
             columnsList.removeAll();
             coords = null;
+            floatCoords = null;
         }
     }
 
@@ -196,11 +205,20 @@ public class LoadCSVDialog extends LoadDialog {
             return;
         }
         columnsCount = columns.length;
-        coords = reader.getCoordinatesFromChosenColumns(columns);
+        readCoords(columns);
         parameterNames = reader.getChosenParameters(columns);
         setVisible(false);
     }
 
+    private void readCoords(int[] columns) {
+        coords = null;
+        floatCoords = null;
+        if (reader.isSinglePrecision())
+            floatCoords = reader.getFloatCoordinatesFromChosenColumns(columns);
+        else
+            coords = reader.getCoordinatesFromChosenColumns(columns);
+    }
+
     public void loadDefaultPoints() {
         try {
             InputStream file = Objects.requireNonNull(LoadCSVDialog.class.getResourceAsStream("Gr4Dist6.csv"));
@@ -1,7 +1,7 @@
-package interactivehicupp;
-
-import hicupp.classify.ClassNode;
-
-interface NodeViewFactory {
-  NodeView createNodeView(SplitView parent, ClassNode classNode);
-}
+package interactivehicupp;
+
+import hicupp.classify.ClassNode;
+
+interface NodeViewFactory {
+  NodeView createNodeView(SplitView parent, ClassNode classNode);
+}
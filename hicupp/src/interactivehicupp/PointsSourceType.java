@@ -1,9 +1,9 @@
-package interactivehicupp;
-
-import hicupp.trees.Tree;
-
-public interface PointsSourceType {
-  PointsSourceProvider createPointsSourceProvider(PointsSourceClient client,
-                                                  Tree tree);
-  PointsSourceProvider getPointSourceProvider();
-}
+package interactivehicupp;
+
+import hicupp.trees.Tree;
+
+public interface PointsSourceType {
+  PointsSourceProvider createPointsSourceProvider(PointsSourceClient client,
+                                                  Tree tree);
+  PointsSourceProvider getPointSourceProvider();
+}